@@ -1,21 +1,42 @@
 package io.github.sleod.tas.common.IOUtils;
 
 import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.regex.Pattern;
 
 /**
  * scan("*.java") --- (recursively) Find all files that have a ".java" suffix.
  * scan("*\/swing/*.java'") --- (recursively) Find all filesthat have a ".java" suffix and one of their parent directories is named "swing".
  * scan("*.java", "-*\/swing/*") --- (recursively) Find all filesthat have a ".java" suffix excluding files whose one of their parent directories is named "swing".
+ * <p>
+ * Patterns are compiled once per scan. Directories which are excluded completely by a pattern ending with "/*"
+ * are skipped without descending. Large trees can be scanned in parallel with fork join, with same files in same
+ * order as the scan in current thread: linked directories are followed, only links to an ancestor are skipped.
  */
 public class DirectoryScanner {
     private static final String SEP = PropertyResolver.getSystemFileSeparator();
-    private final List<File> files = new LinkedList<>();
-    private final List<String> patterns = new ArrayList<>();
+    private final List<FilePattern> patterns = new ArrayList<>();
+    private final List<FilePattern> prunePatterns = new ArrayList<>();
+
+    private DirectoryScanner(List<String> includes, List<String> excludes) {
+        includes.forEach(pattern -> patterns.add(new FilePattern(pattern, false)));
+        for (String pattern : excludes) {
+            FilePattern filePattern = new FilePattern(pattern, true);
+            patterns.add(filePattern);
+            if (Objects.nonNull(filePattern.directoryPrefix)) {
+                prunePatterns.add(filePattern);
+            }
+        }
+    }
 
     /**
      * scan files in directory
@@ -23,113 +44,233 @@ public class DirectoryScanner {
      * @param dir      directory
      * @param includes including pattern
      * @param excludes excluding pattern
-     * @return list of files
+     * @return list of files relative to directory, in form of "/sub/file"
      */
     public static List<File> scan(File dir, List<String> includes, List<String> excludes) {
-        ArrayList<String> scanPatterns = new ArrayList<>(includes.size() + excludes.size());
-        scanPatterns.addAll(includes);
-        excludes.forEach(pattern -> scanPatterns.add("-".concat(pattern)));
-        return scan(dir, scanPatterns);
+        return scan(dir, includes, excludes, false);
     }
 
     /**
-     * check pattern substraction
+     * scan files in directory
      *
-     * @param patt pattern
-     * @return result
+     * @param dir      directory
+     * @param includes including pattern
+     * @param excludes excluding pattern
+     * @param parallel true to scan sub directories in parallel
+     * @return list of files relative to directory, in form of "/sub/file"
      */
-    private static boolean isSubtract(String patt) {
-        return patt.startsWith("-");
+    public static List<File> scan(File dir, List<String> includes, List<String> excludes, boolean parallel) {
+        DirectoryScanner scanner = new DirectoryScanner(includes, excludes);
+        List<String> relPaths;
+        if (parallel) {
+            List<Object> ancestors = new ArrayList<>();
+            try {
+                Object rootKey = Files.readAttributes(dir.toPath(), BasicFileAttributes.class).fileKey();
+                if (rootKey != null) {
+                    ancestors.add(rootKey);
+                }
+            } catch (IOException ex) {
+                //unreadable root, no files like walk in current thread
+                return new ArrayList<>();
+            }
+            relPaths = ForkJoinPool.commonPool().invoke(scanner.new ScanTask(dir.toPath(), "", ancestors));
+        } else {
+            relPaths = scanner.walk(dir.toPath());
+        }
+        List<File> files = new ArrayList<>(relPaths.size());
+        relPaths.forEach(relPath -> files.add(new File(relPath)));
+        return files;
     }
 
     /**
-     * get raw pattern
+     * walk file tree in current thread
      *
-     * @param patt pattern
-     * @return raw data of pattern
+     * @param root root directory
+     * @return list of relative file paths
      */
-    private static String rawPattern(String patt) {
-        if (!isSubtract(patt))
-            return patt;
-        return patt.substring(1);
+    private List<String> walk(Path root) {
+        List<String> relPaths = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    return dir.equals(root) || !isPruned(toRelPath(root, dir)) ? FileVisitResult.CONTINUE : FileVisitResult.SKIP_SUBTREE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String relPath = toRelPath(root, file);
+                    if (match(relPath, file.getFileName().toString())) {
+                        relPaths.add(relPath);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException ex) {
+                    //ignore unreadable files and file system loops like File.listFiles did
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, root);
+        }
+        return relPaths;
     }
 
     /**
-     * scan directory with file patterns
+     * check if all files in directory are excluded
      *
-     * @param dir      directory
-     * @param patterns patterns
-     * @return list of files
+     * @param relDir relative path of directory
+     * @return true if directory can be skipped
      */
-    private static List<File> scan(File dir, List<String> patterns) {
-        DirectoryScanner scanner = new DirectoryScanner();
-        for (String p : patterns) {
-            p = p.replace(SEP, "/");
-            p = p.replace(".", "\\.");
-            p = p.replace("*", ".*");
-            p = p.replace("?", ".?");
-            scanner.patterns.add(p);
+    private boolean isPruned(String relDir) {
+        for (FilePattern pattern : prunePatterns) {
+            if (pattern.directoryPrefix.matcher(relDir + "/").matches()) {
+                return true;
+            }
         }
-        scanner.scan(dir, new File("/"));
-        return scanner.files;
+        return false;
     }
 
     /**
-     * Scan file in directory
+     * match patterns with relative file path, exclude wins over include
      *
-     * @param dir  directory
-     * @param path file path
+     * @param relPath relative path of file
+     * @param name    name of file
+     * @return check
      */
-    private void scan(File dir, File path) {
-        File[] fs = dir.listFiles();
-        for (File f : fs) {
-            File rel = new File(path, f.getName());
-            if (f.isDirectory()) {
-                scan(f, rel);
-                continue;
+    private boolean match(String relPath, String name) {
+        boolean ok = false;
+        for (FilePattern pattern : patterns) {
+            boolean matched = pattern.matches(relPath, name);
+            if (matched && pattern.subtract) {
+                return false;
             }
+            if (matched) {
+                ok = true;
+            }
+        }
+        return ok;
+    }
 
-            if (match(patterns, rel))
-                files.add(rel);
+    private static String toRelPath(Path root, Path path) {
+        StringBuilder relPath = new StringBuilder();
+        for (Path element : root.relativize(path)) {
+            relPath.append('/').append(element);
         }
+        return relPath.toString();
     }
 
     /**
-     * match patterns with file rel
-     *
-     * @param patterns list of patterns
-     * @param rel      rel of file
-     * @return check
+     * Compiled file pattern.
+     * Pattern with "/" is matched to relative path of file, otherwise to file name only.
      */
-    private static boolean match(List<String> patterns, File rel) {
-        boolean ok = false;
-        for (String pattern : patterns) {
-            boolean subtract = isSubtract(pattern);
-            pattern = rawPattern(pattern);
+    private static final class FilePattern {
+        private final Pattern regex;
+        private final boolean subtract;
+        private final boolean onPath;
+        //for exclude pattern ending with "/*": matches directories whose files are all excluded
+        private final Pattern directoryPrefix;
 
-            boolean b = match(pattern, rel);
-            if (b && subtract)
-                return false;
-            if (b)
-                ok = true;
+        private FilePattern(String pattern, boolean subtract) {
+            String rawPattern = pattern.replace(SEP, "/");
+            this.subtract = subtract;
+            this.onPath = rawPattern.indexOf('/') >= 0;
+            String regex = toRegex(rawPattern);
+            this.regex = Pattern.compile(regex);
+            if (subtract && onPath && regex.endsWith("/.*")) {
+                this.directoryPrefix = Pattern.compile(regex.substring(0, regex.length() - 2));
+            } else {
+                this.directoryPrefix = null;
+            }
         }
 
-        return ok;
+        private static String toRegex(String pattern) {
+            return pattern.replace(".", "\\.")
+                    .replace("*", ".*")
+                    .replace("?", ".?");
+        }
+
+        private boolean matches(String relPath, String name) {
+            return regex.matcher(onPath ? relPath : name).matches();
+        }
     }
 
     /**
-     * match file rel to pattern
-     *
-     * @param pattern pattern
-     * @param rel     rel
-     * @return result
+     * Scan task of one directory, sub directories are scanned with forked tasks.
+     * Results are joined in order of entries, like files are visited by walk in current thread.
      */
-    private static boolean match(String pattern, File rel) {
-        String sName = rel.getName();
-        if (pattern.indexOf('/') >= 0) {
-            sName = rel.toString();
+    private final class ScanTask extends RecursiveTask<List<String>> {
+        private final Path dir;
+        private final String relDir;
+        //file keys of directory and its ancestors, to skip links back into own path
+        private final List<Object> ancestors;
+
+        private ScanTask(Path dir, String relDir, List<Object> ancestors) {
+            this.dir = dir;
+            this.relDir = relDir;
+            this.ancestors = ancestors;
+        }
+
+        @Override
+        protected List<String> compute() {
+            //entries in order: matched relative path or forked task of sub directory
+            List<Object> parts = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                for (Path entry : entries) {
+                    String name = entry.getFileName().toString();
+                    String relPath = relDir + "/" + name;
+                    BasicFileAttributes attributes = readAttributes(entry);
+                    if (attributes == null) {
+                        continue;
+                    }
+                    if (attributes.isDirectory()) {
+                        //avoid file system loops with linked directories
+                        Object fileKey = attributes.fileKey();
+                        if (!isPruned(relPath) && (fileKey == null || !ancestors.contains(fileKey))) {
+                            List<Object> subAncestors = new ArrayList<>(ancestors);
+                            if (fileKey != null) {
+                                subAncestors.add(fileKey);
+                            }
+                            ScanTask subTask = new ScanTask(entry, relPath, subAncestors);
+                            subTask.fork();
+                            parts.add(subTask);
+                        }
+                    } else if (match(relPath, name)) {
+                        parts.add(relPath);
+                    }
+                }
+            } catch (IOException ex) {
+                //ignore unreadable directories like walk in current thread
+            }
+            List<String> relPaths = new ArrayList<>();
+            for (Object part : parts) {
+                if (part instanceof ScanTask subTask) {
+                    relPaths.addAll(subTask.join());
+                } else {
+                    relPaths.add((String) part);
+                }
+            }
+            return relPaths;
+        }
+
+        /**
+         * read attributes following links, attributes of link itself for broken links
+         *
+         * @param entry directory entry
+         * @return attributes, null if not readable
+         */
+        private BasicFileAttributes readAttributes(Path entry) {
+            try {
+                return Files.readAttributes(entry, BasicFileAttributes.class);
+            } catch (IOException ex) {
+                try {
+                    return Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (IOException linkEx) {
+                    return null;
+                }
+            }
         }
-        sName = sName.replace(SEP, "/");
-        return sName.matches(pattern);
     }
 }
@@ -0,0 +1,211 @@
+package io.github.sleod.tas.common.IOUtils;
+
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.debug;
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+
+/**
+ * Run scoped in-memory index of regular files under root folders, like test data location.
+ * <p>
+ * Each root is walked once and lookups with name, suffix or pattern are answered from memory.
+ * The index is meant for folders which are not changed while running. In case files are changed, the index of the
+ * root can be invalidated, or maintained with a watch service if enabled with file.index.watch.
+ */
+public final class FileIndex {
+
+    private static final Map<Path, Index> indexes = new ConcurrentHashMap<>();
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+    private static final Map<WatchKey, Path> watchedRoots = new ConcurrentHashMap<>();
+    private static WatchService watchService;
+
+    private FileIndex() {
+    }
+
+    /**
+     * find files whose name contains the given name as regex, same as ".*" + name + ".*"
+     *
+     * @param root     root folder
+     * @param maxDepth max depth, files directly in root have depth 1
+     * @param name     part of file name
+     * @return list of paths in walk order
+     */
+    public static List<Path> findMatchedToName(Path root, int maxDepth, String name) {
+        Pattern pattern = patterns.computeIfAbsent(".*" + name + ".*", Pattern::compile);
+        List<Path> paths = find(root, maxDepth, fileName -> pattern.matcher(fileName).matches());
+        if (paths.isEmpty()) {
+            debug("File with name '" + name + "' was not found in folder " + root);
+        }
+        return paths;
+    }
+
+    /**
+     * find first file whose name matches to the regex
+     *
+     * @param root     root folder
+     * @param maxDepth max depth, files directly in root have depth 1
+     * @param regex    regex of file name
+     * @return first path in walk order
+     */
+    public static Optional<Path> findExactFile(Path root, int maxDepth, String regex) {
+        Pattern pattern = patterns.computeIfAbsent(regex, Pattern::compile);
+        return find(root, maxDepth, fileName -> pattern.matcher(fileName).matches()).stream().findFirst();
+    }
+
+    /**
+     * find files with suffix, e.g. ".json"
+     *
+     * @param root     root folder
+     * @param maxDepth max depth, files directly in root have depth 1
+     * @param suffix   suffix of file name
+     * @return list of paths in walk order
+     */
+    public static List<Path> findWithSuffix(Path root, int maxDepth, String suffix) {
+        return find(root, maxDepth, fileName -> fileName.endsWith(suffix));
+    }
+
+    /**
+     * find files with name filter
+     *
+     * @param root       root folder
+     * @param maxDepth   max depth, files directly in root have depth 1
+     * @param nameFilter filter of file name
+     * @return list of paths in walk order
+     */
+    public static List<Path> find(Path root, int maxDepth, Predicate<String> nameFilter) {
+        List<Path> paths = new ArrayList<>();
+        for (IndexedFile file : getIndex(root, maxDepth).files()) {
+            if (file.depth() <= maxDepth && nameFilter.test(file.name())) {
+                paths.add(file.path());
+            }
+        }
+        return paths;
+    }
+
+    /**
+     * remove index of root, it will be rebuilt on next lookup
+     *
+     * @param root root folder
+     */
+    public static void invalidate(Path root) {
+        Index index = indexes.remove(root.toAbsolutePath().normalize());
+        if (index != null) {
+            index.watchKeys().forEach(FileIndex::cancel);
+        }
+    }
+
+    /**
+     * remove all indexes
+     */
+    public static void invalidateAll() {
+        new ArrayList<>(indexes.keySet()).forEach(FileIndex::invalidate);
+    }
+
+    private static Index getIndex(Path root, int maxDepth) {
+        Path key = root.toAbsolutePath().normalize();
+        Index index = indexes.get(key);
+        if (index == null || index.depth() < maxDepth) {
+            index = indexes.compute(key, (path, existing) ->
+                    existing == null || existing.depth() < maxDepth ? build(path, maxDepth, existing) : existing);
+        }
+        return index;
+    }
+
+    private static Index build(Path root, int maxDepth, Index outdated) {
+        if (outdated != null) {
+            outdated.watchKeys().forEach(FileIndex::cancel);
+        }
+        if (!Files.isDirectory(root)) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, new NoSuchFileException(root.toString()), root);
+        }
+        List<IndexedFile> files = new ArrayList<>();
+        List<WatchKey> watchKeys = new ArrayList<>();
+        boolean watch = PropertyResolver.isFileIndexWatchEnabled();
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), maxDepth, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (watch) {
+                        register(root, dir).ifPresent(watchKeys::add);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile()) {
+                        files.add(new IndexedFile(file, file.getFileName().toString(), root.relativize(file).getNameCount()));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException ex) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, root);
+        }
+        info("File Index of " + root + " contains: " + files.size() + " files.");
+        return new Index(maxDepth, List.copyOf(files), watchKeys);
+    }
+
+    private static synchronized Optional<WatchKey> register(Path root, Path dir) {
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                Thread.ofPlatform().name("tas-file-index-watch").daemon().start(FileIndex::watch);
+            }
+            WatchKey watchKey = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchedRoots.put(watchKey, root);
+            return Optional.of(watchKey);
+        } catch (IOException | UnsupportedOperationException ex) {
+            debug("Folder can not be watched: " + dir + " -> " + ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void cancel(WatchKey watchKey) {
+        watchedRoots.remove(watchKey);
+        watchKey.cancel();
+    }
+
+    /**
+     * invalidate index of root, as soon as any file under root was changed
+     */
+    private static void watch() {
+        while (true) {
+            WatchKey watchKey;
+            try {
+                watchKey = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                return;
+            }
+            watchKey.pollEvents();
+            Path root = watchedRoots.get(watchKey);
+            if (root != null) {
+                debug("Files changed in " + root + ", File Index will be rebuilt.");
+                invalidate(root);
+            }
+            watchKey.reset();
+        }
+    }
+
+    private record IndexedFile(Path path, String name, int depth) {
+    }
+
+    private record Index(int depth, List<IndexedFile> files, List<WatchKey> watchKeys) {
+    }
+}
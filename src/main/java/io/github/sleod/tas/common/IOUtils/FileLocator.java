@@ -13,6 +13,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -23,6 +25,9 @@ import static java.lang.Integer.MAX_VALUE;
 
 public class FileLocator {
 
+    //positive lookups of local resources, which are verified with existence check on access
+    private static final Map<String, Path> resourcePaths = new ConcurrentHashMap<>();
+
     /**
      * Finds paths from a source path, allowing for includes/excludes. Paths
      * found are prefixed with specified path by {@link
@@ -39,10 +44,30 @@ public class FileLocator {
      * @return A List of paths found
      */
     public static List<String> findPaths(Path searchIn, List<String> includes, List<String> excludes, String prefixWith) {
+        return findPaths(searchIn, includes, excludes, prefixWith, false);
+    }
+
+    /**
+     * Finds paths from a source path, allowing for includes/excludes. Paths
+     * found are prefixed with specified path by {@link
+     * #prefix(String, List)} and normalised by {@link
+     * #normalise(List)}.
+     *
+     * @param searchIn   the source path to search in
+     * @param includes   the List of include patterns, or <code>null</code> if
+     *                   none
+     * @param excludes   the List of exclude patterns, or <code>null</code> if
+     *                   none
+     * @param prefixWith the root path prefixed to all paths found, or
+     *                   <code>null</code> if none
+     * @param parallel   true to scan sub directories in parallel, for large trees
+     * @return A List of paths found
+     */
+    public static List<String> findPaths(Path searchIn, List<String> includes, List<String> excludes, String prefixWith, boolean parallel) {
         if (prefixWith.endsWith("/")) {
             prefixWith = chop(prefixWith);
         }
-        return normalise(prefix(prefixWith, sort(scanDirectory(searchIn, includes, excludes))));
+        return normalise(prefix(prefixWith, sort(scanDirectory(searchIn, includes, excludes, parallel))));
     }
 
     /**
@@ -74,9 +99,10 @@ public class FileLocator {
      */
     public static List<Path> listRegularFilesRecursiveMatchedToName(String sDir, int maxDeep, String name) {
         List<Path> paths;
+        Pattern pattern = Pattern.compile(".*" + name + ".*");
         try {
             paths = Files.find(Paths.get(sDir), maxDeep, (p, bfa) ->
-                            bfa.isRegularFile() && p.getFileName().toString().matches(".*" + name + ".*")).toList();
+                            bfa.isRegularFile() && pattern.matcher(p.getFileName().toString()).matches()).toList();
         } catch (IOException ex) {
             throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, sDir + "/" + name);
         }
@@ -96,8 +122,9 @@ public class FileLocator {
      */
     public static Path findExactFile(String sDir, int maxDeep, String name) {
         Optional<Path> paths;
+        Pattern pattern = Pattern.compile(name);
         try {
-            paths = Files.find(Paths.get(sDir), maxDeep, (p, bfa) -> bfa.isRegularFile() && p.getFileName().toString().matches(name)).findFirst();
+            paths = Files.find(Paths.get(sDir), maxDeep, (p, bfa) -> bfa.isRegularFile() && pattern.matcher(p.getFileName().toString()).matches()).findFirst();
         } catch (IOException ex) {
             throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, sDir + "/" + name);
         }
@@ -107,6 +134,32 @@ public class FileLocator {
         return paths.get();
     }
 
+    /**
+     * same as {@link #listRegularFilesRecursiveMatchedToName(String, int, String)}, but answered from {@link FileIndex}.
+     * Only for folders which are not changed while running, like test data location.
+     *
+     * @param sDir    start dir
+     * @param maxDeep max deep
+     * @param name    part of file name
+     * @return list of paths
+     */
+    public static List<Path> findIndexedFilesMatchedToName(String sDir, int maxDeep, String name) {
+        return FileIndex.findMatchedToName(Paths.get(sDir), maxDeep, name);
+    }
+
+    /**
+     * same as {@link #findExactFile(String, int, String)}, but answered from {@link FileIndex}.
+     * Only for folders which are not changed while running, like test data location.
+     *
+     * @param sDir    start dir
+     * @param maxDeep max deep
+     * @param name    regex of file name
+     * @return path of file
+     */
+    public static Path findIndexedExactFile(String sDir, int maxDeep, String name) {
+        return FileIndex.findExactFile(Paths.get(sDir), maxDeep, name)
+                .orElseThrow(() -> new ExceptionBase(ExceptionErrorKeys.OBJECT_NOT_FOUND, sDir + "/" + name));
+    }
 
     /**
      * walk through folder and get files only
@@ -146,12 +199,11 @@ public class FileLocator {
      * @return path of target
      */
     public static Path findResource(String relativePath) {
-        if (!isResourceFileExists(relativePath)) {
+        Path path = lookupResource(relativePath);
+        if (path == null) {
             throw new ExceptionBase(ExceptionErrorKeys.OBJECT_NOT_FOUND, relativePath);
-        } else {
-            String location = Objects.requireNonNull(FileLocator.class.getClassLoader().getResource(relativePath)).getPath();
-            return new File(location).toPath();
         }
+        return path;
     }
 
     /**
@@ -161,11 +213,33 @@ public class FileLocator {
      * @return true be found
      */
     public static boolean isResourceFileExists(String relativePath) {
+        return lookupResource(relativePath) != null;
+    }
+
+    /**
+     * lookup local resource with class loader, found paths are cached as long as they exist
+     *
+     * @param relativePath relative file path
+     * @return path of resource, or null if not found or in jar file
+     */
+    private static Path lookupResource(String relativePath) {
         if (relativePath.startsWith("/")) {
             relativePath = relativePath.substring(1);
         }
+        Path cached = resourcePaths.get(relativePath);
+        if (cached != null) {
+            if (Files.exists(cached)) {
+                return cached;
+            }
+            resourcePaths.remove(relativePath, cached);
+        }
         URL url = FileLocator.class.getClassLoader().getResource(relativePath);
-        return Objects.nonNull(url) && !url.toString().contains("jar!");
+        if (Objects.isNull(url) || url.toString().contains("jar!")) {
+            return null;
+        }
+        Path path = new File(url.getPath()).toPath();
+        resourcePaths.put(relativePath, path);
+        return path;
     }
 
 
@@ -252,12 +326,13 @@ public class FileLocator {
      * @param basedir  dir path of directory
      * @param includes includes pattern for including file with suffix
      * @param excludes excludes pattern for excluding file with suffix
+     * @param parallel true to scan sub directories in parallel
      * @return list of file paths
      */
-    private static List<String> scanDirectory(Path basedir, List<String> includes, List<String> excludes) {
+    private static List<String> scanDirectory(Path basedir, List<String> includes, List<String> excludes, boolean parallel) {
         List<String> result = new ArrayList<>();
         if (basedir.toFile().exists()) {
-            List<File> files = DirectoryScanner.scan(basedir.toFile(), includes, excludes);
+            List<File> files = DirectoryScanner.scan(basedir.toFile(), includes, excludes, parallel);
             files.forEach(file -> result.add(file.getPath()));
         }
         return result;
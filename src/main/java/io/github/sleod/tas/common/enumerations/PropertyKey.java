@@ -11,6 +11,11 @@ public enum PropertyKey {
     TESTCASE_REPORT_DIR("testcase.report.location"),
     TESTCASE_LOCATION("testcase.location"),
     TESTCASE_FILE_EXTENSION("testcase.file.extension"),
+    TESTCASE_LOAD_THREAD_MAX("testcase.load.thread.max"),
+    TESTCASE_PARSE_CACHE("testcase.parse.cache"),
+    CONFIG_CACHE_REFRESH("config.cache.refresh"),
+    FILE_INDEX_WATCH("file.index.watch"),
+    TESTCASE_LOAD_LAZY("testcase.load.lazy"),
     TESTDATA_LOCATION("testdata.location"),
     TEST_AUTOMATION_PACKAGE("package.test.automation"),
     SCREENSHOT_FORMAT("screenshot.format"),
@@ -68,6 +73,31 @@ public enum PropertyKey {
     BROWSER_BIN_PATH("browser.bin.path"),
     BROWSER_PROFILE_DIR("browser.profile.dir"),
     EXECUTION_REMOTE_PARALLEL("execution.remote.parallel"),
+    EXECUTION_LOCAL_PARALLEL_WORKERS("execution.local.parallel.workers"),
+    EXECUTION_VIRTUAL_THREADS("execution.virtual.threads"),
+    EXECUTION_VIRTUAL_THREADS_MAX("execution.virtual.threads.max"),
+    EXECUTION_SCHEDULE_HISTORY("execution.schedule.history"),
+    EXECUTION_SCHEDULE_FAILED_FIRST("execution.schedule.failed.first"),
+    EXECUTION_SERIES_PARALLEL("execution.series.parallel"),
+    POST_PROCESS_ASYNC("post.process.async"),
+    POST_PROCESS_QUEUE_MAX("post.process.queue.max"),
+    STEP_TIMEOUT("step.timeout"),
+    TESTCASE_TIMEOUT("testcase.timeout"),
+    RUN_ABORT_FAILURE_RATE("run.abort.failure.rate"),
+    RUN_ABORT_WINDOW("run.abort.window"),
+    RUN_ABORT_SAME_FAILURES("run.abort.same.failures"),
+    EXECUTION_SHARD_INDEX("execution.shard.index"),
+    EXECUTION_SHARD_TOTAL("execution.shard.total"),
+    EXECUTION_SHARD_HISTORY("execution.shard.history"),
+    EXECUTION_QUEUE_DIR("execution.queue.dir"),
+    EXECUTION_QUEUE_RUN_ID("execution.queue.run.id"),
+    EXECUTION_QUEUE_WORKER("execution.queue.worker"),
+    EXECUTION_QUEUE_LEASE_TIMEOUT("execution.queue.lease.timeout"),
+    EXECUTION_REMOTE_WAIT_TIMEOUT("execution.remote.wait.timeout"),
+    EXECUTION_REMOTE_LEASE_TIMEOUT("execution.remote.lease.timeout"),
+    SESSION_REUSE_SCOPE("session.reuse.scope"),
+    REPORT_STEP_LOG_ATTACHMENTS("report.step.log.attachments"),
+    EXECUTION_RESULT_SPILL("execution.result.spill"),
     EXECUTION_REMOTE_DEVICE_ENABLED("execution.remote.device.enabled"),
     EXECUTION_REMOTE_THREAD_MAX("execution.remote.thread.max"),
     DB_USER("db.user"),
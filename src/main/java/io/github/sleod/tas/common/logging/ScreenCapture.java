@@ -1,6 +1,7 @@
 package io.github.sleod.tas.common.logging;
 
 import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.component.ExecutionContext;
 import io.github.sleod.tas.core.component.TestStepMonitor;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
@@ -30,10 +31,8 @@ import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
  */
 public class ScreenCapture {
 
-    private static DriverProvider screenShotTaker = null;
-
     public static void setScreenTaker(DriverProvider taker) {
-        screenShotTaker = taker;
+        ExecutionContext.current().setScreenShotTaker(taker);
     }
 
     /**
@@ -89,6 +88,7 @@ public class ScreenCapture {
      * @return the current screenshot taker
      */
     public static DriverProvider getScreenShotTaker() {
+        DriverProvider screenShotTaker = ExecutionContext.current().getScreenShotTaker();
         if (screenShotTaker == null) {
             throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "No Screenshot taker available!");
         }
@@ -7,8 +7,15 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.Supplier;
+
 /**
  * Logger class of System using log4j2
+ * <p>
+ * The TAS log level is read from the configuration snapshot, which is refreshed on change of configuration. Messages
+ * which are expensive to build should be passed as supplier or as parameterized message with "{}" placeholders, so
+ * that nothing is built for disabled levels. Asynchronous logging is enabled with system property
+ * "tas.log.async=true", then log events are written by a background thread of log4j2.
  */
 public class SystemLogger {
 
@@ -27,7 +34,7 @@ public class SystemLogger {
     private static final Logger LOGGER = LogManager.getLogger("SystemLogger");
     public static final Level STEP_INFO = Level.forName("STEP_INFO", 350);
 
-    public synchronized static void logStepInfo(String text) {
+    public static void logStepInfo(String text) {
         String info = getSimpleCustomInfo("STEP_INFO", text);
         stepInfo(text);
         TestStepMonitor.getCurrentStep().getTestStepResult().logInfo(info);
@@ -53,46 +60,103 @@ public class SystemLogger {
         LOGGER.error(ex.getMessage(), ex);
     }
 
+    /**
+     * check if level is enabled by TAS log level, to skip expensive preparation of log content
+     *
+     * @param level log level
+     * @return true if messages of level are logged
+     */
+    public static boolean isEnabled(Level level) {
+        return PropertyResolver.getSnapshot().logLevel() >= level.intLevel();
+    }
+
     /**
      * Logs an error message.
      *
      * @param msg the error message
      */
     public static void error(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= Level.ERROR.intLevel()) {
+        if (isEnabled(Level.ERROR)) {
             LOGGER.error(msg);
         }
     }
 
+    /**
+     * Logs an error message with parameters.
+     *
+     * @param pattern message with "{}" placeholders
+     * @param params  parameters
+     */
+    public static void error(String pattern, Object... params) {
+        if (isEnabled(Level.ERROR)) {
+            LOGGER.error(pattern, params);
+        }
+    }
+
     /**
      * Logs a warning message.
      *
      * @param msg the warning message
      */
     public static void warn(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= Level.WARN.intLevel()) {
+        if (isEnabled(Level.WARN)) {
             LOGGER.warn(msg);
         }
     }
 
+    /**
+     * Logs a warning message with parameters.
+     *
+     * @param pattern message with "{}" placeholders
+     * @param params  parameters
+     */
+    public static void warn(String pattern, Object... params) {
+        if (isEnabled(Level.WARN)) {
+            LOGGER.warn(pattern, params);
+        }
+    }
+
     /**
      * Logs an informational message.
      *
      * @param msg the informational message
      */
     public static void info(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= Level.INFO.intLevel()) {
+        if (isEnabled(Level.INFO)) {
             LOGGER.info(msg);
         }
     }
 
+    /**
+     * Logs an informational message with parameters.
+     *
+     * @param pattern message with "{}" placeholders
+     * @param params  parameters
+     */
+    public static void info(String pattern, Object... params) {
+        if (isEnabled(Level.INFO)) {
+            LOGGER.info(pattern, params);
+        }
+    }
+
+    /**
+     * Logs an informational message built only if level is enabled.
+     *
+     * @param msg supplier of the informational message
+     */
+    public static void info(Supplier<String> msg) {
+        if (isEnabled(Level.INFO)) {
+            LOGGER.info(msg.get());
+        }
+    }
+
     /**
      * Logs a step information message.
      *
      * @param msg the step information message
      */
     public static void stepInfo(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= STEP_INFO.intLevel()) {
+        if (isEnabled(STEP_INFO)) {
             LOGGER.log(STEP_INFO, msg);
         }
     }
@@ -103,22 +167,56 @@ public class SystemLogger {
      * @param msg the debug message
      */
     public static void debug(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= Level.DEBUG.intLevel()) {
+        if (isEnabled(Level.DEBUG)) {
             LOGGER.debug(msg);
         }
     }
 
+    /**
+     * Logs a debug message with parameters.
+     *
+     * @param pattern message with "{}" placeholders
+     * @param params  parameters
+     */
+    public static void debug(String pattern, Object... params) {
+        if (isEnabled(Level.DEBUG)) {
+            LOGGER.debug(pattern, params);
+        }
+    }
+
+    /**
+     * Logs a debug message built only if level is enabled.
+     *
+     * @param msg supplier of the debug message
+     */
+    public static void debug(Supplier<String> msg) {
+        if (isEnabled(Level.DEBUG)) {
+            LOGGER.debug(msg.get());
+        }
+    }
+
     /**
      * Logs a trace message.
      *
      * @param msg the trace message
      */
     public static void trace(String msg) {
-        if (Level.getLevel(PropertyResolver.getTASLogLevel()).intLevel() >= Level.TRACE.intLevel()) {
+        if (isEnabled(Level.TRACE)) {
             LOGGER.trace(msg);
         }
     }
 
+    /**
+     * Logs a trace message built only if level is enabled.
+     *
+     * @param msg supplier of the trace message
+     */
+    public static void trace(Supplier<String> msg) {
+        if (isEnabled(Level.TRACE)) {
+            LOGGER.trace(msg.get());
+        }
+    }
+
     /**
      * format simple custom information
      *
@@ -126,7 +224,7 @@ public class SystemLogger {
      * @param info content
      * @return formatted string
      */
-    public static synchronized String getSimpleCustomInfo(String type, String info) {
+    public static String getSimpleCustomInfo(String type, String info) {
         return DateTimeUtils.getISOTimestamp() + ": [" + Thread.currentThread().getName() + "] [" + type + "]: " + info;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,134 @@
+package io.github.sleod.tas.common.logging;
+
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
+
+/**
+ * Append-only log file of one test case, written while the test case runs.
+ * <p>
+ * Lines of steps are appended as they are logged, so they are not kept in memory. Each step records the byte range of
+ * its lines, per step views are read from the range of the file, e.g. for step attachments of reports.
+ */
+public class TestCaseLog {
+
+    private final Path path;
+    private final FileChannel channel;
+    private volatile boolean closed;
+
+    /**
+     * @param path log file, which is created or truncated
+     */
+    public TestCaseLog(Path path) {
+        this.path = path;
+        this.closed = false;
+        try {
+            //append is not combined with truncate, lines are written at position of channel, which is the end
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_WRITING, ex, path);
+        }
+    }
+
+    private TestCaseLog(Path path, boolean closed) {
+        this.path = path;
+        this.closed = closed;
+        this.channel = null;
+    }
+
+    /**
+     * closed log of finished test case, only ranges can be read
+     *
+     * @param path existing log file
+     * @return log for reading
+     */
+    public static TestCaseLog readOnly(Path path) {
+        return new TestCaseLog(path, true);
+    }
+
+    /**
+     * append line to log, lines of step thread and watchdog are not mixed
+     *
+     * @param line line without line separator
+     */
+    public synchronized void append(String line) {
+        if (closed) {
+            warn("Log of test case is closed, line is dropped: " + line);
+            return;
+        }
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(line + System.lineSeparator());
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            warn("Failed to write log of test case " + path + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * @return current end of log, start of next line
+     */
+    public long position() {
+        try {
+            return closed ? Files.size(path) : channel.size();
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
+        }
+    }
+
+    /**
+     * read range of log
+     *
+     * @param start start position
+     * @param end   end position, exclusive
+     * @return content of range
+     */
+    public String read(long start, long end) {
+        if (end <= start) {
+            return "";
+        }
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            while (buffer.hasRemaining() && reader.read(buffer, start + buffer.position()) >= 0) {
+                //read until range is complete or end of file
+            }
+            buffer.flip();
+            return StandardCharsets.UTF_8.decode(buffer).toString();
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
+        }
+    }
+
+    /**
+     * @return log file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * close log, following lines are dropped, repeated close has no effect
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException ex) {
+            warn("Failed to close log of test case " + path + ": " + ex.getMessage());
+        }
+    }
+}
@@ -32,7 +32,7 @@ public class DBConnector {
         String sqlStatement = sqlContentOrFilename;
         if (sqlContentOrFilename.endsWith(".sql")) {//read sql file
             String location = FileLocator.findResource(PropertyResolver.getTestDataLocation()).toString();
-            sqlStatement = FileOperation.readFileToLinedString(FileLocator.findExactFile(location, 5, sqlContentOrFilename).toString());
+            sqlStatement = FileOperation.readFileToLinedString(FileLocator.findIndexedExactFile(location, 5, sqlContentOrFilename).toString());
             if (sqlStatement.isEmpty()) {
                 throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "Given .sql File can not be found in test data! SQL: " + sqlContentOrFilename);
             }
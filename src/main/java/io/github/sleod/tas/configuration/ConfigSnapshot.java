@@ -0,0 +1,56 @@
+package io.github.sleod.tas.configuration;
+
+/**
+ * Immutable typed snapshot of configuration values read on hot paths, like the log level on every log line or the
+ * settings checked on every test step.
+ * <p>
+ * The snapshot is built from system properties and properties of current thread once and kept with the properties,
+ * so that reads are plain field reads without lookup and parsing. It is rebuilt after the properties are changed,
+ * changes of system properties require {@link PropertyResolver#refresh()}.
+ *
+ * @param generation                   generation of configuration the snapshot was built for
+ * @param logLevel                     int level of TAS log level
+ * @param stopOnError                  stop on error enabled
+ * @param retryOnError                 retry on error enabled
+ * @param retryOverSteps               steps to retry over
+ * @param generateVideo                video recording enabled
+ * @param remoteParallel               remote parallel execution enabled
+ * @param headless                     headless mode enabled, false if non-headless method exists
+ * @param demoMode                     demo mode enabled
+ * @param cdpEnabled                   chrome devtools protocol allowed
+ * @param restartDriverAfterExecution  restart driver after test case
+ * @param keepBrowserOnError           keep browser on error
+ * @param testCaseLazyLoad             lazy loading of test cases enabled
+ * @param postProcessAsync             post-process in background enabled
+ * @param postProcessQueueMax          max pending post-processes
+ * @param stepTimeout                  time budget of steps in seconds
+ * @param testCaseTimeout              time budget of test cases in seconds
+ * @param runAbortFailureRate          failure rate to abort run
+ * @param runAbortWindow               window of failure rate
+ * @param runAbortSameFailures         same consecutive failures to abort run
+ * @param screenshotFormat             format of screenshots
+ * @param sessionReuseScope            scope of reused sessions
+ */
+public record ConfigSnapshot(long generation,
+                             int logLevel,
+                             boolean stopOnError,
+                             boolean retryOnError,
+                             int retryOverSteps,
+                             boolean generateVideo,
+                             boolean remoteParallel,
+                             boolean headless,
+                             boolean demoMode,
+                             boolean cdpEnabled,
+                             boolean restartDriverAfterExecution,
+                             boolean keepBrowserOnError,
+                             boolean testCaseLazyLoad,
+                             boolean postProcessAsync,
+                             int postProcessQueueMax,
+                             long stepTimeout,
+                             long testCaseTimeout,
+                             double runAbortFailureRate,
+                             int runAbortWindow,
+                             int runAbortSameFailures,
+                             String screenshotFormat,
+                             String sessionReuseScope) {
+}
@@ -2,6 +2,7 @@ package io.github.sleod.tas.configuration;
 
 import io.github.sleod.tas.common.IOUtils.FileLocator;
 import io.github.sleod.tas.common.enumerations.DownloadStrategy;
+import io.github.sleod.tas.common.enumerations.PropertyKey;
 import io.github.sleod.tas.common.enumerations.WebDriverName;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
@@ -11,6 +12,7 @@ import java.awt.*;
 import java.io.File;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.github.sleod.tas.common.enumerations.PropertyKey.*;
 import static io.github.sleod.tas.common.logging.SystemLogger.*;
@@ -20,7 +22,32 @@ import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
  * Utility class for resolving properties.
  */
 public class PropertyResolver {
-    private final static ThreadLocal<Properties> propertyThreadsMap = new ThreadLocal<>();
+    private final static ThreadLocal<SnapshotProperties> propertyThreadsMap = new ThreadLocal<>();
+    //default values of keys in config snapshot
+    private static final Map<PropertyKey, String> SNAPSHOT_DEFAULTS = Map.ofEntries(
+            Map.entry(LOG_LEVEL_TAS, Level.INFO.name()),
+            Map.entry(RUN_STOP_ON_ERROR, "true"),
+            Map.entry(RETRY_MODE_ENABLED, "false"),
+            Map.entry(RETRY_OVER_STEPS, "1"),
+            Map.entry(GENERATE_VIDEO, "false"),
+            Map.entry(EXECUTION_REMOTE_PARALLEL, "false"),
+            Map.entry(METHOD_NONHEADLESS_EXISTS, "false"),
+            Map.entry(DRIVER_BROWSER_HEADLESS, "true"),
+            Map.entry(DEMO_MODE_ENABLED, "false"),
+            Map.entry(CDP_ALLOWED, "false"),
+            Map.entry(RUN_DRIVER_RESTART, "true"),
+            Map.entry(DEBUG_KEEP_BROWSER, "false"),
+            Map.entry(TESTCASE_LOAD_LAZY, "false"),
+            Map.entry(POST_PROCESS_ASYNC, "false"),
+            Map.entry(POST_PROCESS_QUEUE_MAX, "8"),
+            Map.entry(STEP_TIMEOUT, "0"),
+            Map.entry(TESTCASE_TIMEOUT, "0"),
+            Map.entry(RUN_ABORT_FAILURE_RATE, "0"),
+            Map.entry(RUN_ABORT_WINDOW, "10"),
+            Map.entry(RUN_ABORT_SAME_FAILURES, "0"),
+            Map.entry(SCREENSHOT_FORMAT, "png"),
+            Map.entry(SESSION_REUSE_SCOPE, "none"));
+    private final static AtomicLong generation = new AtomicLong();
 
 
     /**
@@ -52,11 +79,142 @@ public class PropertyResolver {
      */
     public static Properties geCurrentProperties() {
         if (propertyThreadsMap.get() == null) {
-            propertyThreadsMap.set(new Properties());
+            propertyThreadsMap.set(new SnapshotProperties());
         }
         return propertyThreadsMap.get();
     }
 
+    /**
+     * Gets a copy of the current thread's Properties object, to be handed over to worker threads.
+     *
+     * @return copy of the Properties object for the current thread
+     */
+    public static Properties copyCurrentProperties() {
+        Properties copy = new SnapshotProperties();
+        copy.putAll(geCurrentProperties());
+        return copy;
+    }
+
+    /**
+     * Sets the Properties object for the current thread, e.g. in worker threads.
+     *
+     * @param properties the Properties object to use, null to remove the properties of current thread
+     */
+    public static void setCurrentProperties(Properties properties) {
+        if (properties == null) {
+            propertyThreadsMap.remove();
+        } else if (properties instanceof SnapshotProperties snapshotProperties) {
+            propertyThreadsMap.set(snapshotProperties);
+        } else {
+            SnapshotProperties snapshotProperties = new SnapshotProperties();
+            snapshotProperties.putAll(properties);
+            propertyThreadsMap.set(snapshotProperties);
+        }
+    }
+
+    /**
+     * Gets the typed snapshot of hot path configuration of current thread, it is built once after each change.
+     *
+     * @return configuration snapshot
+     */
+    public static ConfigSnapshot getSnapshot() {
+        SnapshotProperties properties = (SnapshotProperties) geCurrentProperties();
+        ConfigSnapshot snapshot = properties.snapshot;
+        if (snapshot != null && snapshot.generation() == generation.get()) {
+            return snapshot;
+        }
+        long modCount = properties.modCount;
+        List<String> invalidKeys = new LinkedList<>();
+        snapshot = buildSnapshot(invalidKeys);
+        //keep snapshot only if properties were not changed meanwhile
+        if (modCount == properties.modCount) {
+            properties.snapshot = snapshot;
+        }
+        //log after snapshot is kept, logging reads the snapshot
+        invalidKeys.forEach(key -> warn("Invalid value of property " + key + ": " + getProperty(key) + ", default value is used!"));
+        return snapshot;
+    }
+
+    /**
+     * Drops snapshots of all threads, e.g. after system properties are changed.
+     */
+    public static void refresh() {
+        generation.incrementAndGet();
+    }
+
+    private static ConfigSnapshot buildSnapshot(List<String> invalidKeys) {
+        //read generation before properties, a refresh meanwhile leads to rebuild on next call
+        long current = generation.get();
+        Level level = Level.getLevel(rawProperty(LOG_LEVEL_TAS).trim());
+        if (level == null) {
+            invalidKeys.add(LOG_LEVEL_TAS.key());
+            level = Level.INFO;
+        }
+        return new ConfigSnapshot(current,
+                level.intLevel(),
+                rawFlag(RUN_STOP_ON_ERROR),
+                rawFlag(RETRY_MODE_ENABLED),
+                (int) rawNumber(RETRY_OVER_STEPS, invalidKeys),
+                rawFlag(GENERATE_VIDEO),
+                rawFlag(EXECUTION_REMOTE_PARALLEL),
+                !rawFlag(METHOD_NONHEADLESS_EXISTS) && rawFlag(DRIVER_BROWSER_HEADLESS),
+                rawFlag(DEMO_MODE_ENABLED),
+                rawFlag(CDP_ALLOWED),
+                rawFlag(RUN_DRIVER_RESTART),
+                rawFlag(DEBUG_KEEP_BROWSER),
+                rawFlag(TESTCASE_LOAD_LAZY),
+                rawFlag(POST_PROCESS_ASYNC),
+                (int) Math.max(1, rawNumber(POST_PROCESS_QUEUE_MAX, invalidKeys)),
+                rawNumber(STEP_TIMEOUT, invalidKeys),
+                rawNumber(TESTCASE_TIMEOUT, invalidKeys),
+                rawDecimal(RUN_ABORT_FAILURE_RATE, invalidKeys),
+                (int) Math.max(1, rawNumber(RUN_ABORT_WINDOW, invalidKeys)),
+                (int) rawNumber(RUN_ABORT_SAME_FAILURES, invalidKeys),
+                rawProperty(SCREENSHOT_FORMAT),
+                rawProperty(SESSION_REUSE_SCOPE));
+    }
+
+    /**
+     * Gets the effective value of property, which is the default value of snapshot for unset keys of snapshot.
+     * The default value is not set into the properties.
+     *
+     * @param key property key
+     * @return value of property, null if neither set nor key of snapshot
+     */
+    public static String getEffectiveProperty(PropertyKey key) {
+        String value = getProperty(key.key());
+        return value == null ? SNAPSHOT_DEFAULTS.get(key) : value;
+    }
+
+    /**
+     * read property without setting default value, which would change the properties and log
+     */
+    private static String rawProperty(PropertyKey key) {
+        return getEffectiveProperty(key);
+    }
+
+    private static boolean rawFlag(PropertyKey key) {
+        return rawProperty(key).equalsIgnoreCase("true");
+    }
+
+    private static long rawNumber(PropertyKey key, List<String> invalidKeys) {
+        try {
+            return Long.parseLong(rawProperty(key).trim());
+        } catch (NumberFormatException ex) {
+            invalidKeys.add(key.key());
+            return Long.parseLong(SNAPSHOT_DEFAULTS.get(key));
+        }
+    }
+
+    private static double rawDecimal(PropertyKey key, List<String> invalidKeys) {
+        try {
+            return Double.parseDouble(rawProperty(key).trim());
+        } catch (NumberFormatException ex) {
+            invalidKeys.add(key.key());
+            return Double.parseDouble(SNAPSHOT_DEFAULTS.get(key));
+        }
+    }
+
 
     /**
      * Decodes a Base64-encoded string.
@@ -126,7 +284,7 @@ public class PropertyResolver {
      * @return the screenshot format
      */
     public static String getScreenshotFormat() {
-        return getProperty(SCREENSHOT_FORMAT.key(), "png");
+        return getSnapshot().screenshotFormat();
     }
 
     /**
@@ -258,11 +416,11 @@ public class PropertyResolver {
     }
 
     public static boolean isRestartDriverAfterExecutionEnabled() {
-        return getProperty(RUN_DRIVER_RESTART.key(), "true").equalsIgnoreCase("true");
+        return getSnapshot().restartDriverAfterExecution();
     }
 
     public static boolean isKeepBrowserOnErrorEnabled() {
-        return getProperty(DEBUG_KEEP_BROWSER.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().keepBrowserOnError();
     }
 
     public static void setKeepBrowserOnErrorEnabled(boolean isKeep) {
@@ -310,12 +468,7 @@ public class PropertyResolver {
      * @return true if headless mode is enabled, false otherwise
      */
     public static boolean isHeadlessModeEnabled() {
-        //exist @NonHeadless method then return false
-        if (getProperty(METHOD_NONHEADLESS_EXISTS.key(), "false").equalsIgnoreCase("true")) {
-            return false;
-        } else {
-            return getProperty(DRIVER_BROWSER_HEADLESS.key(), "true").equalsIgnoreCase("true");
-        }
+        return getSnapshot().headless();
     }
 
     /**
@@ -324,7 +477,7 @@ public class PropertyResolver {
      * @return true if demo mode is enabled, false otherwise
      */
     public static boolean isDemoModeEnabled() {
-        return getProperty(DEMO_MODE_ENABLED.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().demoMode();
     }
 
     /**
@@ -406,7 +559,7 @@ public class PropertyResolver {
     }
 
     public static boolean isStopOnErrorEnabled() {
-        return getProperty(RUN_STOP_ON_ERROR.key(), "true").equalsIgnoreCase("true");
+        return getSnapshot().stopOnError();
     }
 
     public static String getDownloadStrategy() {
@@ -444,11 +597,11 @@ public class PropertyResolver {
     }
 
     public static boolean isRetryOnErrorEnabled() {
-        return getProperty(RETRY_MODE_ENABLED.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().retryOnError();
     }
 
     public static boolean isGenerateVideoEnabled() {
-        return getProperty(GENERATE_VIDEO.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().generateVideo();
     }
 
     public static String getProperty(String key) {
@@ -465,7 +618,7 @@ public class PropertyResolver {
     }
 
     public static int getRetryOverSteps() {
-        return Integer.parseInt(getProperty(RETRY_OVER_STEPS.key(), "1"));
+        return getSnapshot().retryOverSteps();
     }
 
     public static String getQCConfigFile() {
@@ -501,7 +654,7 @@ public class PropertyResolver {
     }
 
     public static boolean isCDPEnabled() {
-        return getProperty(CDP_ALLOWED.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().cdpEnabled();
     }
 
     public static boolean isLinux() {
@@ -565,7 +718,7 @@ public class PropertyResolver {
     }
 
     public static boolean isExecutionRemoteParallelEnabled() {
-        return getProperty(EXECUTION_REMOTE_PARALLEL.key(), "false").equalsIgnoreCase("true");
+        return getSnapshot().remoteParallel();
     }
 
     public static boolean isGenerateAllureReport() {
@@ -666,6 +819,127 @@ public class PropertyResolver {
         return Integer.parseInt(max);
     }
 
+    public static int getTestCaseLoadMaxThreads() {
+        String max = getProperty(TESTCASE_LOAD_THREAD_MAX.key(), "1");
+        return Math.max(1, Integer.parseInt(max));
+    }
+
+    public static boolean isParseCacheEnabled() {
+        return getProperty(TESTCASE_PARSE_CACHE.key(), "true").equalsIgnoreCase("true");
+    }
+
+    public static boolean isConfigCacheRefreshEnabled() {
+        return getProperty(CONFIG_CACHE_REFRESH.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isFileIndexWatchEnabled() {
+        return getProperty(FILE_INDEX_WATCH.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isTestCaseLazyLoadEnabled() {
+        return getSnapshot().testCaseLazyLoad();
+    }
+
+    public static int getLocalParallelWorkers() {
+        return Math.max(1, Integer.parseInt(getProperty(EXECUTION_LOCAL_PARALLEL_WORKERS.key(), "1")));
+    }
+
+    public static boolean isVirtualThreadsEnabled() {
+        return getProperty(EXECUTION_VIRTUAL_THREADS.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static int getVirtualThreadsMax() {
+        return Math.max(1, Integer.parseInt(getProperty(EXECUTION_VIRTUAL_THREADS_MAX.key(), "256")));
+    }
+
+    public static boolean isScheduleWithHistoryEnabled() {
+        return getProperty(EXECUTION_SCHEDULE_HISTORY.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isScheduleFailedFirstEnabled() {
+        return getProperty(EXECUTION_SCHEDULE_FAILED_FIRST.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isSeriesParallelEnabled() {
+        return getProperty(EXECUTION_SERIES_PARALLEL.key(), "false").equalsIgnoreCase("true");
+    }
+
+    public static boolean isPostProcessAsyncEnabled() {
+        return getSnapshot().postProcessAsync();
+    }
+
+    public static int getPostProcessQueueMax() {
+        return getSnapshot().postProcessQueueMax();
+    }
+
+    public static long getStepTimeout() {
+        return getSnapshot().stepTimeout();
+    }
+
+    public static long getTestCaseTimeout() {
+        return getSnapshot().testCaseTimeout();
+    }
+
+    public static double getRunAbortFailureRate() {
+        return getSnapshot().runAbortFailureRate();
+    }
+
+    public static int getRunAbortWindow() {
+        return getSnapshot().runAbortWindow();
+    }
+
+    public static int getRunAbortSameFailures() {
+        return getSnapshot().runAbortSameFailures();
+    }
+
+    public static int getShardIndex() {
+        return Integer.parseInt(getProperty(EXECUTION_SHARD_INDEX.key(), "0"));
+    }
+
+    public static int getShardTotal() {
+        return Math.max(1, Integer.parseInt(getProperty(EXECUTION_SHARD_TOTAL.key(), "1")));
+    }
+
+    public static String getShardHistoryFile() {
+        return getProperty(EXECUTION_SHARD_HISTORY.key(), "");
+    }
+
+    public static String getWorkQueueDir() {
+        return getProperty(EXECUTION_QUEUE_DIR.key(), "");
+    }
+
+    public static String getWorkQueueRunId() {
+        return getProperty(EXECUTION_QUEUE_RUN_ID.key(), "");
+    }
+
+    public static String getWorkQueueWorker() {
+        return getProperty(EXECUTION_QUEUE_WORKER.key(), "");
+    }
+
+    public static long getWorkQueueLeaseTimeout() {
+        return Math.max(1, Long.parseLong(getProperty(EXECUTION_QUEUE_LEASE_TIMEOUT.key(), "300")));
+    }
+
+    public static long getRemoteConfigWaitTimeout() {
+        return Long.parseLong(getProperty(EXECUTION_REMOTE_WAIT_TIMEOUT.key(), "0"));
+    }
+
+    public static long getRemoteConfigLeaseTimeout() {
+        return Long.parseLong(getProperty(EXECUTION_REMOTE_LEASE_TIMEOUT.key(), "0"));
+    }
+
+    public static String getSessionReuseScope() {
+        return getSnapshot().sessionReuseScope();
+    }
+
+    public static boolean isStepLogAttachmentEnabled() {
+        return getProperty(REPORT_STEP_LOG_ATTACHMENTS.key(), "true").equalsIgnoreCase("true");
+    }
+
+    public static boolean isResultSpillEnabled() {
+        return getProperty(EXECUTION_RESULT_SPILL.key(), "false").equalsIgnoreCase("true");
+    }
+
     public static boolean hasNonHeadlessMethod() {
         return getProperty(METHOD_NONHEADLESS_EXISTS.key(), "false").equalsIgnoreCase("true");
     }
@@ -732,4 +1006,42 @@ public class PropertyResolver {
         }
     }
 
+    /**
+     * properties of one thread, which keep the snapshot built from them until they are changed
+     */
+    private static final class SnapshotProperties extends Properties {
+        private volatile ConfigSnapshot snapshot;
+        private volatile long modCount = 0;
+
+        @Override
+        public synchronized Object put(Object key, Object value) {
+            Object previous = super.put(key, value);
+            changed();
+            return previous;
+        }
+
+        @Override
+        public synchronized Object remove(Object key) {
+            Object previous = super.remove(key);
+            changed();
+            return previous;
+        }
+
+        @Override
+        public synchronized void putAll(Map<?, ?> values) {
+            super.putAll(values);
+            changed();
+        }
+
+        @Override
+        public synchronized void clear() {
+            super.clear();
+            changed();
+        }
+
+        private void changed() {
+            modCount++;
+            snapshot = null;
+        }
+    }
 }
@@ -194,7 +194,7 @@ public class TASConfiguration {
     /**
      * set meta filter for test case selection
      *
-     * @param value like "+CI, +Demo" in one string separated with ','
+     * @param value like "+CI, +Demo" in one string separated with ',', or tag expression like "@CI &amp; !@Slow"
      */
     public TASConfiguration setMetaFilter(String value) {
         PropertyResolver.setProperty(RUN_META_FILTER.key(), value);
@@ -614,4 +614,311 @@ public class TASConfiguration {
         PropertyResolver.setProperty(SIMPLE_STRING_PARAMETER_ALLOWED.key(), String.valueOf(value));
         return this;
     }
+
+    /**
+     * set max threads to load and parse test case files at startup, test data of SQL and DB test cases is loaded by
+     * the loading threads as well
+     *
+     * @param value int, default 1 for sequential loading
+     */
+    public TASConfiguration setTestCaseLoadMaxThreads(int value) {
+        PropertyResolver.setProperty(TESTCASE_LOAD_THREAD_MAX.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if parsed test cases and test object configs are cached under target folder for the next runs
+     *
+     * @param value boolean, default true
+     */
+    public TASConfiguration setParseCacheEnabled(boolean value) {
+        PropertyResolver.setProperty(TESTCASE_PARSE_CACHE.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if cached config files are reloaded in case they were changed while running
+     *
+     * @param value boolean, default false
+     */
+    public TASConfiguration setConfigCacheRefreshEnabled(boolean value) {
+        PropertyResolver.setProperty(CONFIG_CACHE_REFRESH.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if indexed folders like test data location are watched and re-indexed in case files were changed
+     *
+     * @param value boolean, default false
+     */
+    public TASConfiguration setFileIndexWatchEnabled(boolean value) {
+        PropertyResolver.setProperty(FILE_INDEX_WATCH.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if test cases are built just before execution and released afterwards, for large test suites
+     *
+     * @param value boolean, default false
+     */
+    public TASConfiguration setTestCaseLazyLoadEnabled(boolean value) {
+        PropertyResolver.setProperty(TESTCASE_LOAD_LAZY.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set number of worker threads to execute test cases without series number in parallel within the JVM
+     *
+     * @param value number of workers, default 1 for serial execution
+     */
+    public TASConfiguration setLocalParallelWorkers(int value) {
+        PropertyResolver.setProperty(EXECUTION_LOCAL_PARALLEL_WORKERS.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if rest and app test cases without series number are executed in virtual threads
+     *
+     * @param value boolean, default false
+     */
+    public TASConfiguration setVirtualThreadsEnabled(boolean value) {
+        PropertyResolver.setProperty(EXECUTION_VIRTUAL_THREADS.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set max number of test cases executed concurrently in virtual threads
+     *
+     * @param value max number, default 256
+     */
+    public TASConfiguration setVirtualThreadsMax(int value) {
+        PropertyResolver.setProperty(EXECUTION_VIRTUAL_THREADS_MAX.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * order single test cases longest first with durations of previous run in allure history
+     *
+     * @param value true to enable, default false
+     */
+    public TASConfiguration setScheduleWithHistoryEnabled(boolean value) {
+        PropertyResolver.setProperty(EXECUTION_SCHEDULE_HISTORY.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * execute single test cases failed in previous runs first, only with schedule with history
+     *
+     * @param value true to enable, default false
+     */
+    public TASConfiguration setScheduleFailedFirstEnabled(boolean value) {
+        PropertyResolver.setProperty(EXECUTION_SCHEDULE_FAILED_FIRST.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * execute independent chains of series test cases in parallel workers, chains are grouped by first context of
+     * series number, e.g. "Order.1" and "Order.2" build one chain executed in order
+     *
+     * @param value true to enable, default false
+     */
+    public TASConfiguration setSeriesParallelEnabled(boolean value) {
+        PropertyResolver.setProperty(EXECUTION_SERIES_PARALLEL.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * toggle if post-process of test cases, like allure results, feedback and upload, is executed in background
+     *
+     * @param value true to enable, default false
+     */
+    public TASConfiguration setPostProcessAsyncEnabled(boolean value) {
+        PropertyResolver.setProperty(POST_PROCESS_ASYNC.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set max number of test cases waiting for post-process in background, test thread waits if reached
+     *
+     * @param value max number, default 8
+     */
+    public TASConfiguration setPostProcessQueueMax(int value) {
+        PropertyResolver.setProperty(POST_PROCESS_QUEUE_MAX.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set time budget of each step, overridden by timeout of step in test case or in annotation @TestStep
+     *
+     * @param value time budget in seconds, default 0 for no budget
+     */
+    public TASConfiguration setStepTimeout(long value) {
+        PropertyResolver.setProperty(STEP_TIMEOUT.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set time budget of each test case, remaining steps are not executed after overrun
+     *
+     * @param value time budget in seconds, default 0 for no budget
+     */
+    public TASConfiguration setTestCaseTimeout(long value) {
+        PropertyResolver.setProperty(TESTCASE_TIMEOUT.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set failure rate in window of latest test cases, which skips the remaining test cases of run
+     *
+     * @param value rate between 0 and 1, default 0 for disabled
+     */
+    public TASConfiguration setRunAbortFailureRate(double value) {
+        PropertyResolver.setProperty(RUN_ABORT_FAILURE_RATE.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set number of latest test cases to calculate failure rate for abort of run
+     *
+     * @param value number of test cases, default 10
+     */
+    public TASConfiguration setRunAbortWindow(int value) {
+        PropertyResolver.setProperty(RUN_ABORT_WINDOW.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set number of consecutive test cases failed with same failure, which skips the remaining test cases of run
+     *
+     * @param value number of test cases, default 0 for disabled
+     */
+    public TASConfiguration setRunAbortSameFailures(int value) {
+        PropertyResolver.setProperty(RUN_ABORT_SAME_FAILURES.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set index of shard executed by this runner, from 0 to total number of shards - 1
+     *
+     * @param value shard index, default 0
+     */
+    public TASConfiguration setShardIndex(int value) {
+        PropertyResolver.setProperty(EXECUTION_SHARD_INDEX.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set total number of shards, test cases are split deterministically over the runners of all shards
+     *
+     * @param value number of shards, default 1
+     */
+    public TASConfiguration setShardTotal(int value) {
+        PropertyResolver.setProperty(EXECUTION_SHARD_TOTAL.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set folder of work queue shared by several runners, test cases are pulled from queue one at a time
+     *
+     * @param value path of folder on same host or shared file system, default empty for no work queue
+     */
+    public TASConfiguration setWorkQueueDir(String value) {
+        PropertyResolver.setProperty(EXECUTION_QUEUE_DIR.key(), value);
+        return this;
+    }
+
+    /**
+     * set id of run, runners with same id share one queue, a new id creates a new queue. Required with work queue,
+     * e.g. id of CI pipeline, as a queue of finished run is not executed again.
+     *
+     * @param value run id, default empty
+     */
+    public TASConfiguration setWorkQueueRunId(String value) {
+        PropertyResolver.setProperty(EXECUTION_QUEUE_RUN_ID.key(), value);
+        return this;
+    }
+
+    /**
+     * set name of this runner recorded in work queue
+     *
+     * @param value worker name, default host name and process id
+     */
+    public TASConfiguration setWorkQueueWorker(String value) {
+        PropertyResolver.setProperty(EXECUTION_QUEUE_WORKER.key(), value);
+        return this;
+    }
+
+    /**
+     * set lease timeout of units in work queue, units of crashed runners are re-queued after timeout
+     *
+     * @param value timeout in seconds, default 300
+     */
+    public TASConfiguration setWorkQueueLeaseTimeout(long value) {
+        PropertyResolver.setProperty(EXECUTION_QUEUE_LEASE_TIMEOUT.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set max wait time for an idle remote driver config, exception is thrown after timeout
+     *
+     * @param value timeout in seconds, 0 for no timeout, default 0
+     */
+    public TASConfiguration setRemoteConfigWaitTimeout(long value) {
+        PropertyResolver.setProperty(EXECUTION_REMOTE_WAIT_TIMEOUT.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set max time a thread is expected to hold a remote driver config, a warning is logged after timeout. Configs are
+     * reclaimed for waiting threads only from terminated threads.
+     *
+     * @param value timeout in seconds, 0 for no timeout, default 0
+     */
+    public TASConfiguration setRemoteConfigLeaseTimeout(long value) {
+        PropertyResolver.setProperty(EXECUTION_REMOTE_LEASE_TIMEOUT.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set scope of reused login sessions of session users: "suite" shares sessions over all threads, "thread" keeps
+     * sessions per thread, "none" logs in for each test case
+     *
+     * @param value scope, default "none"
+     */
+    public TASConfiguration setSessionReuseScope(String value) {
+        PropertyResolver.setProperty(SESSION_REUSE_SCOPE.key(), value);
+        return this;
+    }
+
+    /**
+     * set whether step logs and failures are attached to steps in allure results, the log of test case is kept anyway
+     *
+     * @param value true to attach step logs, default true
+     */
+    public TASConfiguration setStepLogAttachmentEnabled(boolean value) {
+        PropertyResolver.setProperty(REPORT_STEP_LOG_ATTACHMENTS.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set whether results of finished test cases are written to summaries on disk and dropped from memory, they are
+     * read back on demand for reports at the end of the run
+     *
+     * @param value true to spill results, default false
+     */
+    public TASConfiguration setResultSpillEnabled(boolean value) {
+        PropertyResolver.setProperty(EXECUTION_RESULT_SPILL.key(), String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * set history file of allure report shared by all shards, e.g. history.json of last merged report, to weight test
+     * cases with durations. Without shared history all units have same weight, as local histories of runners differ.
+     *
+     * @param value path of history file, default "" for same weights
+     */
+    public TASConfiguration setShardHistoryFile(String value) {
+        PropertyResolver.setProperty(EXECUTION_SHARD_HISTORY.key(), value);
+        return this;
+    }
 }
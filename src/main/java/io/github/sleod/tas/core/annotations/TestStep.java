@@ -16,4 +16,14 @@ public @interface TestStep {
     String using() default "";
 
     boolean takeScreenshot() default false;
+
+    /**
+     * time budget of step in seconds, 0 to use global budget
+     */
+    long timeout() default 0;
+
+    /**
+     * step logs in the session user of test case, it is skipped if the session of user is reused
+     */
+    boolean login() default false;
 }
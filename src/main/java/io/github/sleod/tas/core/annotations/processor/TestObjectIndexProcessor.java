@@ -0,0 +1,67 @@
+package io.github.sleod.tas.core.annotations.processor;
+
+import io.github.sleod.tas.core.annotations.TestObject;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor to generate index of all classes annotated with {@link TestObject} at build time.
+ * The index will be used by TestObjectRegistry instead of classpath scan.
+ * <p>
+ * The processor is not registered automatically and can be activated in the test project with:
+ * <pre>{@code
+ * <annotationProcessors>
+ *     <annotationProcessor>io.github.sleod.tas.core.annotations.processor.TestObjectIndexProcessor</annotationProcessor>
+ * </annotationProcessors>
+ * }</pre>
+ */
+@SupportedAnnotationTypes("io.github.sleod.tas.core.annotations.TestObject")
+public class TestObjectIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/tas/testObjects.idx";
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(TestObject.class)) {
+            if (element instanceof TypeElement typeElement) {
+                classNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+            }
+        }
+        if (roundEnv.processingOver() && !classNames.isEmpty()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Test Object Index can not be written: " + ex.getMessage());
+        }
+    }
+}
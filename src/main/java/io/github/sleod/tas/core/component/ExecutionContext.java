@@ -0,0 +1,112 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.intefaces.DriverProvider;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * State of test case execution, like current test case, current step, temp data and screenshot taker.
+ * <p>
+ * Worker threads of parallel execution bind their own context forked from the starting thread, to take over
+ * performer and temp data, so that test cases can be executed in parallel threads. Threads without bound context,
+ * like the main thread of serial runs and threads started by steps, share one JVM-wide context, as temp data,
+ * performer and screenshot taker were shared before.
+ */
+public class ExecutionContext {
+
+    private static final ThreadLocal<ExecutionContext> contexts = new ThreadLocal<>();
+    //context of threads without bound context
+    private static final ExecutionContext shared = new ExecutionContext();
+
+    @Getter
+    @Setter
+    private PerformableTestCases performer;
+    @Getter
+    @Setter
+    private TestCaseObject currentTest;
+    @Getter
+    @Setter
+    private TestCaseStep currentStep;
+    @Getter
+    @Setter
+    private volatile boolean stop = false;
+    @Getter
+    @Setter
+    private DriverProvider screenShotTaker;
+    private final Map<String, Object> tempData = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final List<File> extraAttachments = new ArrayList<>();
+
+    /**
+     * get context bound to current thread, shared context if none is bound
+     *
+     * @return execution context
+     */
+    public static ExecutionContext current() {
+        ExecutionContext context = contexts.get();
+        return context != null ? context : shared;
+    }
+
+    /**
+     * @return true if current thread has own context
+     */
+    public static boolean isBound() {
+        return contexts.get() != null;
+    }
+
+    /**
+     * bind context to current thread
+     *
+     * @param context execution context
+     */
+    public static void bind(ExecutionContext context) {
+        contexts.set(context);
+    }
+
+    /**
+     * remove context of current thread, thread uses shared context afterwards
+     */
+    public static void unbind() {
+        contexts.remove();
+    }
+
+    /**
+     * create new context for worker thread with same performer and copy of temp data
+     *
+     * @return new execution context
+     */
+    public ExecutionContext fork() {
+        ExecutionContext context = new ExecutionContext();
+        context.performer = performer;
+        synchronized (tempData) {
+            context.tempData.putAll(tempData);
+        }
+        return context;
+    }
+
+    public Map<String, Object> getTempData() {
+        return tempData;
+    }
+
+    /**
+     * add extra attachment for current test case
+     *
+     * @param attachment file to attach
+     */
+    public void addExtraAttachment(File attachment) {
+        extraAttachments.add(attachment);
+    }
+
+    /**
+     * get and clear extra attachments of current test case
+     *
+     * @return list of files
+     */
+    public List<File> takeExtraAttachments() {
+        List<File> attachments = new ArrayList<>(extraAttachments);
+        extraAttachments.clear();
+        return attachments;
+    }
+}
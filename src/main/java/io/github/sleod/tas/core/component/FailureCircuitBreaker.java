@@ -0,0 +1,112 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.configuration.PropertyResolver;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.error;
+
+/**
+ * Circuit breaker over outcomes of test cases to stop a test run against a broken environment.
+ * <p>
+ * The breaker trips, if the failure rate in the sliding window of the latest test cases reaches the threshold, or
+ * if the latest test cases failed consecutively with the same failure signature. Once tripped, steps of remaining
+ * test cases are skipped with the reason, so that the run ends fast and reports are still generated.
+ */
+public final class FailureCircuitBreaker {
+
+    private static final int SIGNATURE_LENGTH = 200;
+    private static final Deque<Boolean> window = new ArrayDeque<>();
+    private static int failures = 0;
+    private static String lastSignature = null;
+    private static int sameFailures = 0;
+    private static volatile String openReason = null;
+
+    private FailureCircuitBreaker() {
+    }
+
+    /**
+     * @return true if remaining test cases should be skipped
+     */
+    public static boolean isOpen() {
+        return openReason != null;
+    }
+
+    /**
+     * @return reason of trip, null if not tripped
+     */
+    public static String getOpenReason() {
+        return openReason;
+    }
+
+    /**
+     * reset breaker for new test run
+     */
+    public static synchronized void reset() {
+        window.clear();
+        failures = 0;
+        lastSignature = null;
+        sameFailures = 0;
+        openReason = null;
+    }
+
+    /**
+     * record outcome of finished test case, skipped test cases are not considered
+     *
+     * @param testRunResult result of test case
+     */
+    public static synchronized void record(TestRunResult testRunResult) {
+        double rateThreshold = PropertyResolver.getRunAbortFailureRate();
+        int sameThreshold = PropertyResolver.getRunAbortSameFailures();
+        TestStatus status = testRunResult.getStatus();
+        if (isOpen() || rateThreshold <= 0 && sameThreshold <= 0
+            || status != TestStatus.PASS && status != TestStatus.FAIL && status != TestStatus.BROKEN) {
+            return;
+        }
+        boolean failed = status != TestStatus.PASS;
+        window.addLast(failed);
+        if (failed) {
+            failures++;
+        }
+        int windowSize = PropertyResolver.getRunAbortWindow();
+        while (window.size() > windowSize) {
+            if (window.removeFirst()) {
+                failures--;
+            }
+        }
+        String signature = failed ? signatureOf(testRunResult) : null;
+        sameFailures = failed && Objects.equals(signature, lastSignature) ? sameFailures + 1 : (failed ? 1 : 0);
+        lastSignature = signature;
+        if (rateThreshold > 0 && window.size() == windowSize && (double) failures / windowSize >= rateThreshold) {
+            trip(failures + " of latest " + windowSize + " Test Cases failed");
+        } else if (sameThreshold > 0 && sameFailures >= sameThreshold) {
+            trip(sameFailures + " Test Cases failed consecutively with: " + signature);
+        }
+    }
+
+    private static void trip(String reason) {
+        openReason = reason;
+        error("Environment seems to be broken, remaining Test Cases are skipped: " + reason);
+    }
+
+    /**
+     * signature of first failure, numbers are ignored, to match failures with different ids or timestamps
+     *
+     * @param testRunResult result of test case
+     * @return failure signature
+     */
+    private static String signatureOf(TestRunResult testRunResult) {
+        TestFailure failure = testRunResult.getStepResults().stream()
+                .filter(stepResult -> stepResult.getTestFailure() != null).map(TestStepResult::getTestFailure)
+                .findFirst().orElse(testRunResult.getTestFailure());
+        if (failure == null) {
+            return "unknown";
+        }
+        String type = failure.getException() == null ? "" : failure.getException().getClass().getSimpleName() + ": ";
+        String signature = (type + failure.getMessage()).replaceAll("\\d+", "#").replaceAll("\\s+", " ");
+        return signature.length() > SIGNATURE_LENGTH ? signature.substring(0, SIGNATURE_LENGTH) : signature;
+    }
+}
@@ -0,0 +1,260 @@
+package io.github.sleod.tas.core.component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.json.deserialization.JSONContainerFactory;
+import io.github.sleod.tas.core.report.ReportBuilder;
+import io.github.sleod.tas.exception.ExceptionBase;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
+
+/**
+ * Scheduler of test cases with durations and outcomes of previous runs in allure history.
+ * <p>
+ * Test cases are ordered longest processing time first, so that long test cases do not run alone at the end of a
+ * parallel run. Optionally test cases which failed recently are brought forward. Test cases without history are
+ * predicted with the average duration of known test cases.
+ */
+public final class HistoryScheduler {
+
+    //number of latest runs in history to consider
+    private static final int HISTORY_DEPTH = 5;
+    //suffix of name of web test case on remote driver: " (platform-version-browser)"
+    private static final Pattern REMOTE_SUFFIX = Pattern.compile("(.*) \\([^()]*-[^()]*-[^()]*\\)");
+
+    private HistoryScheduler() {
+    }
+
+    /**
+     * order test cases with history of previous runs
+     *
+     * @param testCaseObjects test cases to order
+     * @param workers         number of parallel workers
+     * @param failedFirst     true to bring recently failed test cases forward
+     * @return schedule with ordered test cases and predicted makespan
+     */
+    public static Schedule schedule(List<TestCaseObject> testCaseObjects, int workers, boolean failedFirst) {
+        return schedule(testCaseObjects, workers, failedFirst, findHistoryFile());
+    }
+
+    /**
+     * order test cases with given history file
+     *
+     * @param testCaseObjects test cases to order
+     * @param workers         number of parallel workers
+     * @param failedFirst     true to bring recently failed test cases forward
+     * @param historyFile     history file of allure report, null if none
+     * @return schedule with ordered test cases and predicted makespan
+     */
+    static Schedule schedule(List<TestCaseObject> testCaseObjects, int workers, boolean failedFirst, Path historyFile) {
+        Map<TestCaseObject, History> predicted = predict(testCaseObjects, historyFile);
+        if (predicted.isEmpty()) {
+            info("No history of previous run found, Test Cases are not reordered.");
+            return new Schedule(testCaseObjects, -1);
+        }
+        Comparator<TestCaseObject> longestFirst = Comparator.comparingLong(testCaseObject -> -predicted.get(testCaseObject).duration());
+        Comparator<TestCaseObject> order = failedFirst
+                ? Comparator.<TestCaseObject, Boolean>comparing(testCaseObject -> !predicted.get(testCaseObject).failed()).thenComparing(longestFirst)
+                : longestFirst;
+        List<TestCaseObject> ordered = new ArrayList<>(testCaseObjects);
+        ordered.sort(order);
+        long makespan = predictMakespan(ordered.stream().mapToLong(testCaseObject -> predicted.get(testCaseObject).duration()).toArray(), workers);
+        info("Test Cases scheduled with history for " + workers
+             + " workers, predicted makespan: " + TimeUnit.MILLISECONDS.toSeconds(makespan) + " s.");
+        return new Schedule(ordered, makespan);
+    }
+
+    /**
+     * predict durations of test cases with history of previous run
+     *
+     * @param testCaseObjects test cases
+     * @return predicted duration in milliseconds of each test case, empty if no history found
+     */
+    static Map<TestCaseObject, Long> predictDurations(List<TestCaseObject> testCaseObjects) {
+        return predictDurations(testCaseObjects, findHistoryFile());
+    }
+
+    /**
+     * predict durations of test cases with given history file
+     *
+     * @param testCaseObjects test cases
+     * @param historyFile     history file of allure report, null if none
+     * @return predicted duration in milliseconds of each test case, empty if no history found
+     */
+    static Map<TestCaseObject, Long> predictDurations(List<TestCaseObject> testCaseObjects, Path historyFile) {
+        Map<TestCaseObject, Long> durations = new IdentityHashMap<>(testCaseObjects.size());
+        predict(testCaseObjects, historyFile).forEach((testCaseObject, history) -> durations.put(testCaseObject, history.duration()));
+        return durations;
+    }
+
+    /**
+     * predict history of test cases, test cases without history get average duration of known test cases
+     *
+     * @param testCaseObjects test cases
+     * @param historyFile     history file of allure report, null if none
+     * @return history of each test case, empty if no history found
+     */
+    private static Map<TestCaseObject, History> predict(List<TestCaseObject> testCaseObjects, Path historyFile) {
+        Map<String, History> histories = loadHistories(historyFile);
+        Map<TestCaseObject, History> predicted = new IdentityHashMap<>(testCaseObjects.size());
+        if (histories.isEmpty()) {
+            return predicted;
+        }
+        long defaultDuration = Math.round(histories.values().stream().mapToLong(History::duration).average().orElse(0));
+        Map<String, History> remoteHistories = withoutRemotePlatform(histories);
+        for (TestCaseObject testCaseObject : testCaseObjects) {
+            String historyId = historyId(testCaseObject);
+            History history = histories.get(historyId);
+            if (history == null && testCaseObject.getTestType().type().startsWith("web")) {
+                history = remoteHistories.get(historyId);
+            }
+            predicted.put(testCaseObject, history != null ? history : new History(defaultDuration, false));
+        }
+        return predicted;
+    }
+
+    /**
+     * histories of web test cases on remote driver, with history id of name without suffix of platform, version and
+     * browser. The remote driver config of next run is not known before execution.
+     *
+     * @param histories map of history id and history
+     * @return map of history id without remote platform and history
+     */
+    private static Map<String, History> withoutRemotePlatform(Map<String, History> histories) {
+        Map<String, History> remoteHistories = new HashMap<>();
+        histories.forEach((historyId, history) -> {
+            Matcher matcher = REMOTE_SUFFIX.matcher(PropertyResolver.decodeBase64(historyId));
+            if (matcher.matches()) {
+                remoteHistories.putIfAbsent(PropertyResolver.encodeBase64(matcher.group(1)), history);
+            }
+        });
+        return remoteHistories;
+    }
+
+    /**
+     * log predicted and actual makespan as soon as the stream is consumed completely
+     *
+     * @param stream    stream of executed test cases
+     * @param predicted predicted makespan in milliseconds, negative if unknown
+     * @return stream with same elements
+     */
+    public static <T> Stream<T> reportMakespan(Stream<T> stream, long predicted) {
+        if (predicted < 0) {
+            return stream;
+        }
+        long[] start = new long[1];
+        Stream<T> head = Stream.<Runnable>of(() -> start[0] = System.currentTimeMillis()).flatMap(HistoryScheduler::runToEmpty);
+        Stream<T> tail = Stream.<Runnable>of(() -> info("Makespan of scheduled Test Cases, predicted: " + TimeUnit.MILLISECONDS.toSeconds(predicted)
+                + " s, actual: " + TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - start[0]) + " s."))
+                .flatMap(HistoryScheduler::runToEmpty);
+        return Stream.concat(Stream.concat(head, stream), tail);
+    }
+
+    private static <T> Stream<T> runToEmpty(Runnable runnable) {
+        runnable.run();
+        return Stream.empty();
+    }
+
+    /**
+     * simulate longest processing time first over workers
+     *
+     * @param durations durations in order of execution
+     * @param workers   number of workers
+     * @return max load of workers
+     */
+    static long predictMakespan(long[] durations, int workers) {
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) {
+            loads.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : durations) {
+            long load = loads.poll() + duration;
+            makespan = Math.max(makespan, load);
+            loads.add(load);
+        }
+        return makespan;
+    }
+
+    /**
+     * history id like in allure results of test case, with name incl. series number and suite name as prefix if
+     * allure results are rebased
+     *
+     * @param testCaseObject test case object
+     * @return history id
+     */
+    static String historyId(TestCaseObject testCaseObject) {
+        String prefix = PropertyResolver.isRebaseAllureReportEnabled()
+                ? ReportBuilder.buildSuiteName(testCaseObject.getPackageName()) : testCaseObject.getPackageName();
+        return ReportBuilder.buildHistoryId(prefix, PerformableTestCases.seriesName(testCaseObject));
+    }
+
+    /**
+     * @return history file of last run in local allure report, null if none
+     */
+    private static Path findHistoryFile() {
+        return JSONContainerFactory.getHistoryFiles(ReportBuilder.getCurrentOrder() - 1).stream()
+                .filter(filePath -> Paths.get(filePath).getFileName().toString().equals("history.json"))
+                .findFirst().map(Paths::get).orElse(null);
+    }
+
+    /**
+     * load average duration and recent failure of test cases in history
+     *
+     * @param historyFile history file of allure report, null if none
+     * @return map of history id and history
+     */
+    private static Map<String, History> loadHistories(Path historyFile) {
+        if (historyFile == null || !Files.isRegularFile(historyFile)) {
+            return Collections.emptyMap();
+        }
+        JsonNode historyNode;
+        try {
+            historyNode = JSONContainerFactory.readJsonTree(historyFile);
+        } catch (ExceptionBase ex) {
+            warn("History file can not be read: " + historyFile);
+            return Collections.emptyMap();
+        }
+        Map<String, History> histories = new HashMap<>();
+        historyNode.properties().forEach(entry -> {
+            long durations = 0;
+            int count = 0;
+            boolean failed = false;
+            for (JsonNode item : entry.getValue().path("items")) {
+                if (count == HISTORY_DEPTH) {
+                    break;
+                }
+                durations += item.path("time").path("duration").asLong();
+                String status = item.path("status").asText();
+                failed |= "failed".equals(status) || "broken".equals(status);
+                count++;
+            }
+            if (count > 0) {
+                histories.put(entry.getKey(), new History(durations / count, failed));
+            }
+        });
+        return histories;
+    }
+
+    /**
+     * ordered test cases
+     *
+     * @param testCaseObjects ordered test cases
+     * @param makespan        predicted makespan in milliseconds, negative if unknown
+     */
+    public record Schedule(List<TestCaseObject> testCaseObjects, long makespan) {
+    }
+
+    private record History(long duration, boolean failed) {
+    }
+}
@@ -0,0 +1,209 @@
+package io.github.sleod.tas.core.component;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
+
+/**
+ * Test cases of a test run, which are built just before execution instead of all at start of run.
+ * <p>
+ * Only file path and series numbers of selected test case files are kept. Test case objects incl. variants of csv or
+ * sql test data are built when the stream is consumed, and released after execution, so that large test suites run
+ * with bounded heap. Duplicated names or ids are detected when the test case is built.
+ * <p>
+ * Series numbers can be defined in test case file or in rows of test data. Files with test data reference are built
+ * once at start to classify their test cases, a file may contain series and single test cases. Series test cases are
+ * executed in order of their series number like without lazy loading.
+ */
+public class LazyTestCases {
+
+    private final List<Source> seriesSources = new ArrayList<>();
+    private final List<Source> singleSources = new ArrayList<>();
+    private final List<String> selectedIds;
+    //selected units of shard, null if all are selected
+    private final Set<String> shardUnits;
+    private final Set<String> testCaseNames = new HashSet<>();
+    private final Set<String> testCaseIds = new HashSet<>();
+
+    /**
+     * @param sources     selected test case files
+     * @param selectedIds selected test case ids, null if all selected
+     * @param shardUnits  units of current shard, null if not sharded
+     */
+    LazyTestCases(List<Source> sources, List<String> selectedIds, Set<String> shardUnits) {
+        this.selectedIds = selectedIds;
+        this.shardUnits = shardUnits;
+        for (Source source : sources) {
+            if (shardUnits != null && source.units().stream().noneMatch(shardUnits::contains)) {
+                continue;
+            }
+            if (!source.seriesKeys().isEmpty()) {
+                seriesSources.add(source);
+            }
+            if (source.hasSingles()) {
+                singleSources.add(source);
+            }
+        }
+        //same order as series number in tree map
+        seriesSources.sort(Comparator.comparing(Source::seriesNumber));
+    }
+
+    /**
+     * @return number of selected test case files
+     */
+    public int size() {
+        Set<String> filePaths = new HashSet<>();
+        seriesSources.forEach(source -> filePaths.add(source.filePath()));
+        singleSources.forEach(source -> filePaths.add(source.filePath()));
+        return filePaths.size();
+    }
+
+    /**
+     * @return stream of test cases with series number, in order of series number. Series test cases are built
+     * together when the stream is consumed, to be sorted over all files.
+     */
+    public Stream<TestCaseObject> getSeriesTestCases() {
+        return seriesSources.stream().flatMap(source -> build(source, true))
+                .sorted(Comparator.comparing(TestCaseObject::getSeriesNumber)).peek(this::checkDuplicateNaming);
+    }
+
+    /**
+     * @return lazy stream of series chains, each chain is built completely when pulled from stream
+     */
+    public Stream<List<TestCaseObject>> getSeriesChains() {
+        Map<String, List<Source>> chains = new TreeMap<>();
+        for (Source source : seriesSources) {
+            source.seriesKeys().forEach(key -> chains.computeIfAbsent(key, k -> new ArrayList<>()).add(source));
+        }
+        return chains.entrySet().stream().map(chain -> chain.getValue().stream().flatMap(source -> build(source, true))
+                .filter(testCaseObject -> TestRunManager.getSeriesKey(testCaseObject.getSeriesNumber()).equals(chain.getKey()))
+                .sorted(Comparator.comparing(TestCaseObject::getSeriesNumber)).peek(this::checkDuplicateNaming).toList());
+    }
+
+    /**
+     * @return lazy stream of test cases without series number, in order of file path
+     */
+    public Stream<TestCaseObject> getSingleTestCases() {
+        return singleSources.stream().flatMap(source -> build(source, false)).peek(this::checkDuplicateNaming);
+    }
+
+    /**
+     * build test cases of file, which are series or single test cases of current shard
+     *
+     * @param source test case file
+     * @param series true for series test cases, false for single test cases
+     * @return stream of test cases
+     */
+    private Stream<TestCaseObject> build(Source source, boolean series) {
+        return TestRunManager.buildTestCases(source.filePath(), selectedIds).stream()
+                .filter(testCaseObject -> isValid(testCaseObject.getSeriesNumber()) == series)
+                .filter(testCaseObject -> shardUnits == null || shardUnits.contains(unitKey(source, testCaseObject)));
+    }
+
+    private void checkDuplicateNaming(TestCaseObject testCaseObject) {
+        TestRunManager.checkDuplicateNaming(testCaseObject, testCaseNames, testCaseIds);
+    }
+
+    /**
+     * key of unit of work in case of lazy loading, which is the series chain for series test cases and the file for
+     * single test cases
+     *
+     * @param source         test case file
+     * @param testCaseObject test case object built from file
+     * @return unit key
+     */
+    static String unitKey(Source source, TestCaseObject testCaseObject) {
+        return isValid(testCaseObject.getSeriesNumber())
+                ? "series:" + TestRunManager.getSeriesKey(testCaseObject.getSeriesNumber()) : "file:" + source.filePath();
+    }
+
+    /**
+     * selected test case file
+     *
+     * @param filePath     file path of test case
+     * @param seriesNumber lowest series number of test cases in file, null if none
+     * @param seriesKeys   keys of series chains of test cases in file
+     * @param hasSingles   true if file contains test cases without series number
+     */
+    record Source(String filePath, String seriesNumber, Set<String> seriesKeys, boolean hasSingles) {
+
+        /**
+         * file without test data reference, series number of file is series number of its test case
+         *
+         * @param filePath     file path of test case
+         * @param seriesNumber series number in test case file, null if not defined
+         * @return source
+         */
+        static Source of(String filePath, String seriesNumber) {
+            return isValid(seriesNumber)
+                    ? new Source(filePath, seriesNumber, Set.of(TestRunManager.getSeriesKey(seriesNumber)), false)
+                    : new Source(filePath, null, Set.of(), true);
+        }
+
+        /**
+         * file classified with column seriesNumber of its test data, without building test cases. Rows excluded later
+         * by conditions or selection may add units, which are empty at execution.
+         *
+         * @param filePath         file path of test case
+         * @param seriesNumber     series number in test case file, null if not defined
+         * @param rowSeriesNumbers series numbers of data rows, empty if test data is not repeated
+         * @return source
+         */
+        static Source classify(String filePath, String seriesNumber, List<String> rowSeriesNumbers) {
+            if (rowSeriesNumbers.isEmpty()) {
+                return of(filePath, seriesNumber);
+            }
+            String lowest = null;
+            Set<String> seriesKeys = new TreeSet<>();
+            boolean hasSingles = false;
+            for (int index = 0; index < rowSeriesNumbers.size(); index++) {
+                //same series number of variant as in normalizing of repeated test cases
+                String number = isValid(rowSeriesNumbers.get(index)) ? rowSeriesNumbers.get(index)
+                        : isValid(seriesNumber) ? seriesNumber + "." + String.format("%02d", index + 1) : null;
+                if (isValid(number)) {
+                    seriesKeys.add(TestRunManager.getSeriesKey(number));
+                    lowest = lowest == null || number.compareTo(lowest) < 0 ? number : lowest;
+                } else {
+                    hasSingles = true;
+                }
+            }
+            return new Source(filePath, lowest, seriesKeys, hasSingles);
+        }
+
+        /**
+         * file classified with its built test cases, e.g. with series numbers in test data which has to be loaded
+         *
+         * @param filePath        file path of test case
+         * @param testCaseObjects test cases built from file
+         * @return source
+         */
+        static Source classify(String filePath, List<TestCaseObject> testCaseObjects) {
+            String seriesNumber = null;
+            Set<String> seriesKeys = new TreeSet<>();
+            boolean hasSingles = false;
+            for (TestCaseObject testCaseObject : testCaseObjects) {
+                String number = testCaseObject.getSeriesNumber();
+                if (isValid(number)) {
+                    seriesKeys.add(TestRunManager.getSeriesKey(number));
+                    seriesNumber = seriesNumber == null || number.compareTo(seriesNumber) < 0 ? number : seriesNumber;
+                } else {
+                    hasSingles = true;
+                }
+            }
+            return new Source(filePath, seriesNumber, seriesKeys, hasSingles);
+        }
+
+        /**
+         * @return units of work of test cases in file
+         */
+        Set<String> units() {
+            Set<String> units = new TreeSet<>();
+            seriesKeys.forEach(key -> units.add("series:" + key));
+            if (hasSingles) {
+                units.add("file:" + filePath);
+            }
+            return units;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.service.RemoteWebDriverConfigService;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.error;
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+
+/**
+ * Runner of test cases in worker threads within the JVM.
+ * <p>
+ * A dispatcher pulls units of test cases, which are either a single test case or a chain of series test cases.
+ * Units with test cases of types without local driver only, see {@link TestRunManager#isVirtualThreadCapable}, are
+ * executed each in its own virtual thread up to a maximum of concurrent virtual threads, if enabled. They are queued to
+ * a feeder, which starts the virtual threads, so that the dispatcher does not wait for free virtual threads while
+ * platform workers are idle. Other units are
+ * executed by a bounded number of platform workers. Units are handed over to platform workers through a queue bounded by
+ * the number of workers, so that the dispatcher builds the next test cases only when a worker is free. Test cases of a unit are executed in order in one thread, so that
+ * a chain keeps its driver and session. Each test case is executed with pre-process, all steps and post-process with
+ * its own {@link ExecutionContext}, properties and driver of the thread. The outcomes of the steps are handed over to JUnit as dynamic tests
+ * in order of completion, so that reports of JUnit stay the same as in serial execution.
+ */
+final class ParallelTestCaseRunner {
+
+    private static final Completed END = new Completed(null, null);
+    private final Iterator<List<TestCaseObject>> source;
+    private final int workers;
+    private final Semaphore virtualThreads;
+    private final BlockingQueue<Optional<List<TestCaseObject>>> platformQueue;
+    private final BlockingQueue<Optional<List<TestCaseObject>>> virtualQueue;
+    private final BlockingQueue<Completed> completed = new LinkedBlockingQueue<>();
+    //dispatcher, platform workers, feeder and running virtual threads
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    //numbered names, name of thread is part of log folder of test case
+    private final Thread.Builder virtualBuilder = Thread.ofVirtual().name("tas-virtual-", 1);
+    private Properties properties;
+    private ExecutionContext context;
+
+    /**
+     * @param source         units of test cases to execute, consumed by dispatcher
+     * @param workers        number of platform worker threads
+     * @param virtualThreads max number of concurrent virtual threads, 0 to execute all test cases in platform workers
+     */
+    ParallelTestCaseRunner(Iterator<List<TestCaseObject>> source, int workers, int virtualThreads) {
+        this.source = source;
+        this.workers = workers;
+        this.platformQueue = new ArrayBlockingQueue<>(workers);
+        this.virtualThreads = virtualThreads > 0 ? new Semaphore(virtualThreads) : null;
+        this.virtualQueue = virtualThreads > 0 ? new ArrayBlockingQueue<>(virtualThreads) : null;
+    }
+
+    /**
+     * get stream of executed test cases, threads are started as soon as the stream is consumed
+     *
+     * @return stream of dynamic containers in order of completion
+     */
+    Stream<DynamicContainer> stream() {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<DynamicContainer>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private boolean started = false;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super DynamicContainer> action) {
+                if (!started) {
+                    started = true;
+                    start();
+                }
+                Completed next = take();
+                if (next == END) {
+                    return false;
+                }
+                action.accept(next.toContainer());
+                return true;
+            }
+        }, false);
+    }
+
+    private void start() {
+        info("Execute Test Cases in parallel with " + workers + " workers"
+             + (virtualThreads == null ? "." : " and up to " + virtualThreads.availablePermits() + " virtual threads."));
+        properties = PropertyResolver.copyCurrentProperties();
+        context = ExecutionContext.current();
+        activeThreads.set(workers + (virtualQueue == null ? 1 : 2));
+        for (int i = 1; i <= workers; i++) {
+            Thread.ofPlatform().name("tas-worker-" + i).daemon().start(this::work);
+        }
+        if (virtualQueue != null) {
+            Thread.ofPlatform().name("tas-virtual-feeder").daemon().start(this::feedVirtual);
+        }
+        Thread.ofPlatform().name("tas-dispatcher").daemon().start(this::dispatch);
+    }
+
+    private Completed take() {
+        try {
+            return completed.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Interrupted while waiting for test case execution!");
+        }
+    }
+
+    /**
+     * pull units of test cases and hand over to feeder of virtual threads or platform workers, waits for free space in
+     * queue of next unit.
+     * Source is not consumed any more after failure while building test case.
+     */
+    private void dispatch() {
+        bindThread();
+        try {
+            while (source.hasNext()) {
+                List<TestCaseObject> unit = source.next();
+                if (unit.isEmpty()) {
+                    continue;
+                }
+                if (virtualQueue != null && unit.stream().allMatch(testCaseObject -> TestRunManager.isVirtualThreadCapable(testCaseObject.getTestType()))) {
+                    virtualQueue.put(Optional.of(unit));
+                } else {
+                    platformQueue.put(Optional.of(unit));
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable throwable) {
+            error(throwable);
+            completed.add(new Completed("Load Test Case", List.of(new StepOutcome("Load Test Case failed", throwable))));
+        } finally {
+            try {
+                for (int i = 0; i < workers; i++) {
+                    platformQueue.put(Optional.empty());
+                }
+                if (virtualQueue != null) {
+                    virtualQueue.put(Optional.empty());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            finish();
+        }
+    }
+
+    /**
+     * platform worker, the driver is kept for following test cases in same worker
+     */
+    private void work() {
+        bindThread();
+        try {
+            for (Optional<List<TestCaseObject>> next = platformQueue.take(); next.isPresent(); next = platformQueue.take()) {
+                next.get().forEach(testCaseObject -> completed.add(execute(testCaseObject)));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            DriverManager.closeDriver();
+            RemoteWebDriverConfigService.releaseConfig();
+            finish();
+        }
+    }
+
+    /**
+     * start virtual thread for each queued unit as soon as a virtual thread is free
+     */
+    private void feedVirtual() {
+        try {
+            for (Optional<List<TestCaseObject>> next = virtualQueue.take(); next.isPresent(); next = virtualQueue.take()) {
+                List<TestCaseObject> unit = next.get();
+                virtualThreads.acquire();
+                activeThreads.incrementAndGet();
+                virtualBuilder.start(() -> runVirtual(unit));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            finish();
+        }
+    }
+
+    /**
+     * execute one unit of test cases in virtual thread
+     *
+     * @param unit test cases to execute in order
+     */
+    private void runVirtual(List<TestCaseObject> unit) {
+        bindThread();
+        try {
+            unit.forEach(testCaseObject -> completed.add(execute(testCaseObject)));
+        } finally {
+            DriverManager.closeDriver();
+            RemoteWebDriverConfigService.releaseConfig();
+            virtualThreads.release();
+            finish();
+        }
+    }
+
+    /**
+     * bind own copy of properties and own execution context to current thread
+     */
+    private void bindThread() {
+        Properties threadProperties = new Properties();
+        threadProperties.putAll(properties);
+        PropertyResolver.setCurrentProperties(threadProperties);
+        ExecutionContext.bind(context.fork());
+    }
+
+    private void finish() {
+        ExecutionContext.unbind();
+        if (activeThreads.decrementAndGet() == 0) {
+            completed.add(END);
+        }
+    }
+
+    /**
+     * execute test case in current thread, incl. pre- and post-process
+     *
+     * @param testCaseObject test case object
+     * @return outcomes of steps
+     */
+    private Completed execute(TestCaseObject testCaseObject) {
+        String displayName = testCaseObject.getName();
+        List<StepOutcome> outcomes = new ArrayList<>();
+        try {
+            displayName = testCaseObject.prepareAndGetDisplayName();
+            testCaseObject.getTestSteps().forEach(dynamicTest -> {
+                Throwable failure = null;
+                try {
+                    dynamicTest.getExecutable().execute();
+                } catch (Throwable throwable) {
+                    failure = throwable;
+                }
+                outcomes.add(new StepOutcome(dynamicTest.getDisplayName(), failure));
+            });
+        } catch (Throwable throwable) {
+            error(throwable);
+            outcomes.add(new StepOutcome("Execute Test Case failed", throwable));
+        } finally {
+            //post process in same thread, before next test case
+            TestStepMonitor.afterAllSteps();
+            ExecutionContext.current().setCurrentTest(null);
+        }
+        return new Completed(displayName, outcomes);
+    }
+
+    private record StepOutcome(String displayName, Throwable failure) {
+
+        private DynamicTest toDynamicTest() {
+            return DynamicTest.dynamicTest(displayName, () -> {
+                if (failure != null) {
+                    throw failure;
+                }
+            });
+        }
+    }
+
+    private record Completed(String displayName, List<StepOutcome> outcomes) {
+
+        private DynamicContainer toContainer() {
+            return DynamicContainer.dynamicContainer(displayName, outcomes.stream().map(StepOutcome::toDynamicTest));
+        }
+    }
+}
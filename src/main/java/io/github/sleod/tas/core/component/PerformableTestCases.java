@@ -5,18 +5,15 @@ import io.github.sleod.tas.configuration.PropertyResolver;
 import io.github.sleod.tas.configuration.TASConfiguration;
 import io.github.sleod.tas.core.report.ReportBuilder;
 import io.github.sleod.tas.core.report.allure.ReportBuilderAllureService;
+import io.github.sleod.tas.core.service.RemoteWebDriverConfigService;
 import lombok.Getter;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.*;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.*;
 import java.util.stream.Stream;
 
-import static io.github.sleod.tas.common.logging.SystemLogger.fatal;
-import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.*;
 import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
 import static io.github.sleod.tas.configuration.PropertyResolver.*;
 import static io.github.sleod.tas.core.component.TestRunManager.*;
@@ -33,6 +30,8 @@ public abstract class PerformableTestCases {
      */
     @Getter
     private List<TestCaseObject> testCaseObjects = Collections.emptyList();
+    //test cases built just before execution, in case lazy loading is enabled
+    private LazyTestCases lazyTestCases;
 
     /**
      * TAS configuration instance.
@@ -42,14 +41,31 @@ public abstract class PerformableTestCases {
     public PerformableTestCases() {
         try {
             setUpFramework();
+            //typed snapshot of configuration with system properties set up by runner
+            PropertyResolver.refresh();
             retrieveResources();
             healthCheck();//health check
             setPerformer(this);
+            FailureCircuitBreaker.reset();
+            SessionStore.clear();
             cleanResultsByPresentOnServer();
-            testCaseObjects = initTestCases(findAllFilePathOfTestCaseFile(includeFilePatterns(), excludeFilePatterns()), getMetaFilters());
+            if (PropertyResolver.isTestCaseLazyLoadEnabled() && WorkQueue.isEnabled()) {
+                warn("Lazy loading is not supported with work queue, Test Cases are loaded at start.");
+            }
+            if (PropertyResolver.isTestCaseLazyLoadEnabled() && !WorkQueue.isEnabled()) {
+                lazyTestCases = initLazyTestCases(findAllFilePathOfTestCaseFile(includeFilePatterns(), excludeFilePatterns()), getMetaFilters());
+                //collects executed test cases for reports
+                testCaseObjects = new ArrayList<>();
+            } else {
+                testCaseObjects = initTestCases(findAllFilePathOfTestCaseFile(includeFilePatterns(), excludeFilePatterns()), getMetaFilters());
+            }
             loadGlobalTestData();
             setUpSelenide();
-            info("Test Run contains Test Cases: " + testCaseObjects.size());
+            if (Objects.nonNull(lazyTestCases)) {
+                info("Test Run contains Test Case Files: " + lazyTestCases.size() + ", Test Cases will be loaded lazily.");
+            } else {
+                info("Test Run contains Test Cases: " + testCaseObjects.size());
+            }
         } catch (Throwable throwable) {
             fatal(throwable);
         }
@@ -71,10 +87,96 @@ public abstract class PerformableTestCases {
      * @return stream of single test cases
      */
     public Stream<DynamicContainer> getSingleTestCases() {
+        return executeWithSingleTestCases(Stream.empty());
+    }
+
+    /**
+     * Get the stream of series chains and single test cases, which are executed together by parallel workers.
+     * Each chain of series test cases is executed in order in one worker, single test cases fill idle workers.
+     * Without parallel execution, series test cases are executed before single test cases.
+     * @return stream of series and single test cases in order of completion
+     */
+    public Stream<DynamicContainer> getSeriesChainsAndSingleTestCases() {
+        if (!isParallelExecution()) {
+            return Stream.concat(getSeriesTestCases(), getSingleTestCases());
+        }
+        Stream<List<TestCaseObject>> seriesChains = Objects.nonNull(lazyTestCases)
+                ? lazyTestCases.getSeriesChains().peek(chain -> chain.forEach(this::keepForReport))
+                : groupSeriesChains(testCaseObjects.stream().filter(testCaseObject -> isValid(testCaseObject.getSeriesNumber())).toList()).stream();
+        return executeWithSingleTestCases(seriesChains);
+    }
+
+    /**
+     * Get the stream of test cases pulled from work queue shared with other runners.
+     * Units of test cases are executed one at a time in order.
+     * @return stream of test cases leased by this runner
+     */
+    public Stream<DynamicContainer> getTestCasesFromWorkQueue() {
+        if (isParallelExecution()) {
+            warn("Parallel execution is not supported with work queue, Test Cases are executed serially.");
+        }
+        return new WorkQueue(testCaseObjects).units().flatMap(List::stream).map(this::getTestCaseReady);
+    }
+
+    /**
+     * check if test cases are executed by parallel workers or virtual threads
+     * @return true if parallel
+     */
+    private boolean isParallelExecution() {
+        return (getLocalParallelWorkers() > 1 || isVirtualThreadsEnabled()) && !isRetryOnErrorEnabled();
+    }
+
+    /**
+     * Execute series chains followed by single test cases.
+     * @param seriesChains chains of series test cases, only with parallel execution
+     * @return stream of executed test cases
+     */
+    private Stream<DynamicContainer> executeWithSingleTestCases(Stream<List<TestCaseObject>> seriesChains) {
+        int workers = PropertyResolver.getLocalParallelWorkers();
+        int virtualThreads = PropertyResolver.isVirtualThreadsEnabled() ? PropertyResolver.getVirtualThreadsMax() : 0;
+        if ((workers > 1 || virtualThreads > 0) && PropertyResolver.isRetryOnErrorEnabled()) {
+            warn("Retry on error is not supported in parallel execution, Test Cases are executed serially.");
+            workers = 1;
+            virtualThreads = 0;
+        }
+        boolean parallel = workers > 1 || virtualThreads > 0;
+        if (Objects.nonNull(lazyTestCases)) {
+            Stream<TestCaseObject> singleTestCases = lazyTestCases.getSingleTestCases().map(this::keepForReport);
+            return parallel
+                    ? runParallel(Stream.concat(seriesChains, singleTestCases.map(List::of)), workers, virtualThreads)
+                    : singleTestCases.map(this::getTestCaseReady);
+        }
         //single test cases
-        return testCaseObjects.stream()
-                .filter(testCaseObject -> !isValid(testCaseObject.getSeriesNumber()))
-                .map(this::getTestCaseReady);
+        List<TestCaseObject> singleTestCases = testCaseObjects.stream()
+                .filter(testCaseObject -> !isValid(testCaseObject.getSeriesNumber())).toList();
+        long predictedMakespan = -1;
+        if (PropertyResolver.isScheduleWithHistoryEnabled()) {
+            HistoryScheduler.Schedule schedule = HistoryScheduler.schedule(singleTestCases,
+                    Math.max(workers, 1) + virtualThreads, PropertyResolver.isScheduleFailedFirstEnabled());
+            singleTestCases = schedule.testCaseObjects();
+            predictedMakespan = schedule.makespan();
+        }
+        if (!parallel) {
+            return HistoryScheduler.reportMakespan(singleTestCases.stream().map(this::getTestCaseReady), predictedMakespan);
+        }
+        List<List<TestCaseObject>> chains = seriesChains.toList();
+        if (!chains.isEmpty()) {
+            //prediction covers single test cases only
+            predictedMakespan = -1;
+        }
+        return HistoryScheduler.reportMakespan(runParallel(Stream.concat(chains.stream(), singleTestCases.stream().map(List::of)),
+                workers, virtualThreads), predictedMakespan);
+    }
+
+    /**
+     * Execute units of test cases by parallel workers.
+     * @param units single test cases or chains of series test cases
+     * @param workers number of platform workers
+     * @param virtualThreads max number of virtual threads
+     * @return stream of executed test cases in order of completion
+     */
+    private Stream<DynamicContainer> runParallel(Stream<List<TestCaseObject>> units, int workers, int virtualThreads) {
+        return new ParallelTestCaseRunner(units.peek(unit -> unit.forEach(this::markSeries)).iterator(), workers, virtualThreads).stream();
     }
 
     /**
@@ -82,6 +184,9 @@ public abstract class PerformableTestCases {
      * @return stream of series test cases
      */
     public Stream<DynamicContainer> getSeriesTestCases() {
+        if (Objects.nonNull(lazyTestCases)) {
+            return lazyTestCases.getSeriesTestCases().map(this::keepForReport).map(this::getTestCaseReady);
+        }
         Map<String, TestCaseObject> serienTestCases = new TreeMap<>();
         testCaseObjects.stream().filter(testCaseObject -> isValid(testCaseObject.getSeriesNumber()))
                 .forEach(testCaseObject -> {
@@ -100,12 +205,39 @@ public abstract class PerformableTestCases {
      * @return the dynamic container for the test case
      */
     public DynamicContainer getTestCaseReady(TestCaseObject testCaseObject) {
-        if (isValid(testCaseObject.getSeriesNumber())) {
-            testCaseObject.setName(testCaseObject.getName() + " - SN - " + testCaseObject.getSeriesNumber());
-        }
+        markSeries(testCaseObject);
         return DynamicContainer.dynamicContainer(testCaseObject.prepareAndGetDisplayName(), testCaseObject.getTestSteps());
     }
 
+    /**
+     * Add series number to name of series test case.
+     * @param testCaseObject the test case object
+     */
+    private void markSeries(TestCaseObject testCaseObject) {
+        testCaseObject.setName(seriesName(testCaseObject));
+    }
+
+    /**
+     * Name of test case with series number, like in reports of test case.
+     * @param testCaseObject the test case object
+     * @return the name with series number, the name itself if not a series test case or already marked
+     */
+    static String seriesName(TestCaseObject testCaseObject) {
+        String name = testCaseObject.getName();
+        String suffix = " - SN - " + testCaseObject.getSeriesNumber();
+        return isValid(testCaseObject.getSeriesNumber()) && !name.endsWith(suffix) ? name + suffix : name;
+    }
+
+    /**
+     * Keep the lazily built test case for reports.
+     * @param testCaseObject the test case object
+     * @return the test case object
+     */
+    private TestCaseObject keepForReport(TestCaseObject testCaseObject) {
+        testCaseObjects.add(testCaseObject);
+        return testCaseObject;
+    }
+
     /**
      * Get the stream of test cases for execution.
      * @return stream of test cases
@@ -113,6 +245,12 @@ public abstract class PerformableTestCases {
     @TestFactory
     @DisplayName("Execute Test Cases...")
     public Stream<DynamicContainer> runTCs() {
+        if (WorkQueue.isEnabled()) {
+            return getTestCasesFromWorkQueue();
+        }
+        if (PropertyResolver.isSeriesParallelEnabled()) {
+            return getSeriesChainsAndSingleTestCases();
+        }
         return Stream.concat(getSeriesTestCases(), getSingleTestCases());
     }
 
@@ -124,6 +262,12 @@ public abstract class PerformableTestCases {
         info("Ending Test Run...");
         //finish afterTest for last test case
         TestStepMonitor.afterAllSteps();
+        //wait for post-process of test cases before reports
+        PostTestPipeline.drain();
+        if (RemoteWebDriverConfigService.countConfigs() > 0) {
+            RemoteWebDriverConfigService.releaseConfig();
+            info(RemoteWebDriverConfigService.getMetrics());
+        }
         //generate allure html report locally, only wenn not parallel execution
         if (!PropertyResolver.isExecutionRemoteParallelEnabled()) {
             info("Generate local Allure and XML Report.");
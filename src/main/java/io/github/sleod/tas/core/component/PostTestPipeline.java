@@ -0,0 +1,107 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.*;
+
+/**
+ * Pipeline of post-process of test cases, like writing of log and allure results, feedback and upload of results.
+ * <p>
+ * If enabled, post-process is executed in background threads and the test thread only hands over a snapshot of the
+ * results. Post-process of one test case is executed in order in one task. The number of pending test cases is
+ * bounded, the test thread waits if the limit is reached. The pipeline is drained at the end of the test run.
+ */
+public final class PostTestPipeline {
+
+    private static final int THREADS = 2;
+    private static final Object lock = new Object();
+    private static ExecutorService executor;
+    private static Semaphore pending;
+
+    private PostTestPipeline() {
+    }
+
+    /**
+     * execute post-process of test case, in background if enabled, else in current thread
+     *
+     * @param testCaseName name of test case
+     * @param postProcess  post-process with snapshot of results
+     */
+    public static void submit(String testCaseName, Runnable postProcess) {
+        if (!PropertyResolver.isPostProcessAsyncEnabled()) {
+            postProcess.run();
+            return;
+        }
+        Properties properties = PropertyResolver.copyCurrentProperties();
+        ExecutorService target;
+        Semaphore permits;
+        synchronized (lock) {
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(THREADS, Thread.ofPlatform().name("tas-post-test-", 1).daemon().factory());
+                pending = new Semaphore(PropertyResolver.getPostProcessQueueMax());
+            }
+            target = executor;
+            permits = pending;
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Interrupted while waiting for post-process of test cases!");
+        }
+        ExecutionContext context = ExecutionContext.current();
+        try {
+            target.execute(() -> {
+                PropertyResolver.setCurrentProperties(properties);
+                ExecutionContext.bind(context.fork());
+                try {
+                    postProcess.run();
+                } catch (Throwable throwable) {
+                    warn("Post-process failed: " + testCaseName);
+                    error(throwable);
+                } finally {
+                    ExecutionContext.unbind();
+                    PropertyResolver.setCurrentProperties(null);
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            //pipeline is drained in the meantime
+            permits.release();
+            postProcess.run();
+        }
+    }
+
+    /**
+     * wait until post-process of all submitted test cases is finished
+     */
+    public static void drain() {
+        ExecutorService target;
+        synchronized (lock) {
+            target = executor;
+            executor = null;
+            pending = null;
+        }
+        if (target == null) {
+            return;
+        }
+        info("Wait for post-process of Test Cases...");
+        target.shutdown();
+        try {
+            if (!target.awaitTermination(1, TimeUnit.HOURS)) {
+                warn("Post-process of Test Cases is not finished in time!");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.common.logging.TestCaseLog;
+import io.github.sleod.tas.core.json.ObjectMapperSingleton;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Compact summaries of finished test runs, written to disk to keep the heap of long runs flat.
+ * <p>
+ * A summary keeps status, timing, failure texts and screenshot paths of the steps and the failure of the test run. Step
+ * logs are not copied, only their ranges in the log of test case. Results are rehydrated from the summary on demand,
+ * e.g. for reports at the end of the run.
+ */
+final class ResultSpill {
+
+    private ResultSpill() {
+    }
+
+    /**
+     * write summary of test run next to its log file
+     *
+     * @param testRunResult test run result with log file
+     * @return path of summary file
+     */
+    static String write(TestRunResult testRunResult) {
+        List<StepSummary> steps = new LinkedList<>();
+        for (TestStepResult stepResult : testRunResult.getStepResults()) {
+            steps.add(summarize(stepResult));
+        }
+        TestFailure failure = testRunResult.getTestFailure();
+        RunSummary summary = new RunSummary(steps, testRunResult.getAttachments().stream().map(File::getPath).toList(),
+                failure == null ? null : failure.getMessage(), failure == null ? null : failure.getType(),
+                failure == null ? null : failure.getTrace());
+        String path = testRunResult.getLogFilePath().replaceAll("\\.log$", "") + ".result.json";
+        try {
+            ObjectMapperSingleton.compactWriter().writeValue(new File(path), summary);
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_WRITING, ex, path);
+        }
+        return path;
+    }
+
+    /**
+     * rehydrate results of test run from summary, each call returns new objects
+     *
+     * @param path path of summary file
+     * @return step results, attachments and failure of test run
+     */
+    static Rehydrated read(String path) {
+        RunSummary summary = readSummary(path);
+        List<TestStepResult> stepResults = new LinkedList<>();
+        for (StepSummary step : summary.steps()) {
+            stepResults.add(rehydrate(step));
+        }
+        List<File> attachments = new LinkedList<>();
+        summary.attachments().forEach(attachment -> attachments.add(new File(attachment)));
+        TestFailure failure = summary.failureMessage() == null ? null
+                : new TestFailure(summary.failureMessage(), summary.failureType(), summary.failureTrace());
+        return new Rehydrated(stepResults, attachments, failure);
+    }
+
+    private static RunSummary readSummary(String path) {
+        try {
+            return ObjectMapperSingleton.readValue(Paths.get(path), RunSummary.class);
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
+        }
+    }
+
+    private static StepSummary summarize(TestStepResult stepResult) {
+        TestStatus status = stepResult.getStatus();
+        TestFailure failure = status == TestStatus.PASS || status == TestStatus.NO_RUN ? null : stepResult.getTestFailure();
+        boolean ranged = stepResult.hasLogRange();
+        //lines kept in memory are stored, ranged lines stay in log of test case
+        String lines = ranged ? stepResult.getMemoryLogs() : stepResult.getStepLogs();
+        return new StepSummary(stepResult.getName(), stepResult.getStepOrder(), stepResult.getTestMethod(),
+                stepResult.getStatus(), stepResult.getStartTime(), stepResult.getStopTime(), stepResult.getActual(),
+                path(stepResult.getFullScreen()), path(stepResult.getExpectedScreen()), path(stepResult.getActualScreen()),
+                ranged ? stepResult.getTestCaseLog().getPath().toString() : null, stepResult.getLogStart(),
+                stepResult.getFailureStart(), ranged ? stepResult.getLogEnd() : -1, lines,
+                failure == null ? null : failure.getMessage(), failure == null ? null : failure.getType(),
+                failure == null ? null : failure.getTrace());
+    }
+
+    private static TestStepResult rehydrate(StepSummary step) {
+        TestStepResult stepResult = new TestStepResult(step.name(), step.stepOrder());
+        stepResult.setTestMethod(step.testMethod());
+        stepResult.setStatus(step.status());
+        stepResult.setStartTime(step.start());
+        stepResult.setStopTime(step.stop());
+        stepResult.setActual(step.actual());
+        stepResult.setFullScreen(file(step.fullScreen()));
+        stepResult.setExpectedScreen(file(step.expectedScreen()));
+        stepResult.setActualScreen(file(step.actualScreen()));
+        TestFailure failure = step.failureMessage() == null ? null
+                : new TestFailure(step.failureMessage(), step.failureType(), step.failureTrace());
+        TestCaseLog log = step.logFile() == null ? null : TestCaseLog.readOnly(Paths.get(step.logFile()));
+        stepResult.restore(failure, log, step.logStart(), step.failureStart(), step.logEnd(), step.logs());
+        return stepResult;
+    }
+
+    private static String path(File file) {
+        return file == null ? null : file.getPath();
+    }
+
+    private static File file(String path) {
+        return path == null ? null : new File(path);
+    }
+
+    /**
+     * results of test run rehydrated from summary
+     *
+     * @param stepResults step results in order of execution
+     * @param attachments attachments of test run
+     * @param failure     failure of test run, null if not failed
+     */
+    record Rehydrated(List<TestStepResult> stepResults, List<File> attachments, TestFailure failure) {
+    }
+
+    /**
+     * summary of test run
+     */
+    record RunSummary(List<StepSummary> steps, List<String> attachments, String failureMessage, String failureType,
+                      String failureTrace) {
+    }
+
+    /**
+     * summary of test step, log positions are -1 without log of test case
+     */
+    record StepSummary(String name, int stepOrder, String testMethod, TestStatus status, long start, long stop,
+                       String actual, String fullScreen, String expectedScreen, String actualScreen, String logFile,
+                       long logStart, long failureStart, long logEnd, String logs, String failureMessage,
+                       String failureType, String failureTrace) {
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.sleod.tas.core.component;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.web.PlaywrightDriver;
+import io.github.sleod.tas.web.PlaywrightDriverProvider;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
+import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
+
+/**
+ * In-memory store of authenticated browser sessions, to log in once per user instead of in every test case.
+ * <p>
+ * Test cases with a session user mark their login steps. After the login steps of a test case passed, cookies, local
+ * storage and session storage of the browser are captured for the user. Following test cases of the same user get the
+ * session injected before the steps and skip their login steps. With scope "suite" a session is shared by all threads,
+ * with scope "thread" each thread keeps own sessions. A session is dropped, if a test case using it fails.
+ */
+public final class SessionStore {
+
+    public static final String SCOPE_SUITE = "suite";
+    public static final String SCOPE_THREAD = "thread";
+    private static final String READ_STORAGE = "return JSON.stringify(Object.assign({}, window.%s));";
+    private static final String WRITE_STORAGE = "const items = JSON.parse(arguments[0]); for (const key in items) { window.%s.setItem(key, items[key]); }";
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    private SessionStore() {
+    }
+
+    /**
+     * @param user session user of test case
+     * @return true if sessions of user are reused
+     */
+    public static boolean isEnabled(String user) {
+        String scope = PropertyResolver.getSessionReuseScope();
+        return isValid(user) && (SCOPE_SUITE.equalsIgnoreCase(scope) || SCOPE_THREAD.equalsIgnoreCase(scope));
+    }
+
+    /**
+     * remove all sessions for new test run
+     */
+    public static void clear() {
+        sessions.clear();
+    }
+
+    /**
+     * inject stored session of user into browser of current thread, the current page is reloaded with session
+     *
+     * @param user session user
+     * @return true if session was injected and login steps can be skipped
+     */
+    public static boolean inject(String user) {
+        if (!isEnabled(user)) {
+            return false;
+        }
+        Session session = sessions.get(key(user));
+        if (session == null) {
+            return false;
+        }
+        try {
+            if (DriverManager.getDriverProvider() instanceof PlaywrightDriverProvider) {
+                injectPlaywright(session, DriverManager.getPlaywrightDriver());
+            } else {
+                injectWebDriver(session, DriverManager.getWebDriver());
+            }
+            info("Reuse session of user: " + user);
+            return true;
+        } catch (Throwable throwable) {
+            warn("Failed to reuse session of user " + user + ", login is executed: " + throwable.getMessage());
+            sessions.remove(key(user), session);
+            return false;
+        }
+    }
+
+    /**
+     * capture session of user from browser of current thread
+     *
+     * @param user session user
+     */
+    public static void capture(String user) {
+        if (!isEnabled(user)) {
+            return;
+        }
+        try {
+            Session session;
+            if (DriverManager.getDriverProvider() instanceof PlaywrightDriverProvider) {
+                session = capturePlaywright(DriverManager.getPlaywrightDriver());
+            } else {
+                session = captureWebDriver(DriverManager.getWebDriver());
+            }
+            sessions.put(key(user), session);
+            info("Store session of user: " + user);
+        } catch (Throwable throwable) {
+            warn("Failed to store session of user " + user + ": " + throwable.getMessage());
+        }
+    }
+
+    /**
+     * drop session of user, e.g. if it is expired
+     *
+     * @param user session user
+     */
+    public static void invalidate(String user) {
+        if (isEnabled(user) && sessions.remove(key(user)) != null) {
+            info("Drop session of user: " + user);
+        }
+    }
+
+    private static String key(String user) {
+        if (SCOPE_THREAD.equalsIgnoreCase(PropertyResolver.getSessionReuseScope())) {
+            return user + "@" + Thread.currentThread().threadId();
+        }
+        return user;
+    }
+
+    private static Session captureWebDriver(WebDriver webDriver) {
+        JavascriptExecutor executor = (JavascriptExecutor) webDriver;
+        return new Session(webDriver.getCurrentUrl(), new ArrayList<>(webDriver.manage().getCookies()),
+                (String) executor.executeScript(READ_STORAGE.formatted("localStorage")),
+                (String) executor.executeScript(READ_STORAGE.formatted("sessionStorage")));
+    }
+
+    private static void injectWebDriver(Session session, WebDriver webDriver) {
+        String currentUrl = webDriver.getCurrentUrl();
+        //cookies and storage can only be set for the origin of current page
+        if (!sameOrigin(currentUrl, session.url())) {
+            webDriver.navigate().to(session.url());
+        }
+        session.cookies().forEach(cookie -> webDriver.manage().addCookie((Cookie) cookie));
+        JavascriptExecutor executor = (JavascriptExecutor) webDriver;
+        executor.executeScript(WRITE_STORAGE.formatted("localStorage"), session.localStorage());
+        executor.executeScript(WRITE_STORAGE.formatted("sessionStorage"), session.sessionStorage());
+        webDriver.navigate().to(isValid(currentUrl) && currentUrl.startsWith("http") ? currentUrl : session.url());
+    }
+
+    private static Session capturePlaywright(PlaywrightDriver driver) {
+        Page page = driver.getPage();
+        return new Session(page.url(), new ArrayList<>(driver.getContext().cookies()),
+                (String) page.evaluate("() => JSON.stringify(Object.assign({}, window.localStorage))"),
+                (String) page.evaluate("() => JSON.stringify(Object.assign({}, window.sessionStorage))"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void injectPlaywright(Session session, PlaywrightDriver driver) {
+        BrowserContext context = driver.getContext();
+        context.addCookies((List<com.microsoft.playwright.options.Cookie>) session.cookies());
+        Page page = driver.getPage();
+        String currentUrl = page.url();
+        if (!sameOrigin(currentUrl, session.url())) {
+            page.navigate(session.url());
+        }
+        page.evaluate("items => { const all = JSON.parse(items); for (const key in all) { window.localStorage.setItem(key, all[key]); } }", session.localStorage());
+        page.evaluate("items => { const all = JSON.parse(items); for (const key in all) { window.sessionStorage.setItem(key, all[key]); } }", session.sessionStorage());
+        page.navigate(isValid(currentUrl) && currentUrl.startsWith("http") ? currentUrl : session.url());
+    }
+
+    private static boolean sameOrigin(String url, String other) {
+        try {
+            URI uri = URI.create(url);
+            URI otherUri = URI.create(other);
+            return Objects.equals(uri.getScheme(), otherUri.getScheme()) && Objects.equals(uri.getHost(), otherUri.getHost())
+                   && uri.getPort() == otherUri.getPort();
+        } catch (RuntimeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * state of authenticated browser session, cookies are of type of driver
+     */
+    private record Session(String url, List<?> cookies, String localStorage, String sessionStorage) {
+    }
+}
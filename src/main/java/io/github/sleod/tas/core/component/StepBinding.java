@@ -0,0 +1,222 @@
+package io.github.sleod.tas.core.component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.*;
+import io.github.sleod.tas.core.json.ObjectMapperSingleton;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.debug;
+
+/**
+ * Binding plan of a test step method with its "using" definition.
+ * <p>
+ * The plan resolves parameter layout, split "using" keys, converter of each parameter and a method handle
+ * invoker only once per method and "using" definition, so that no reflection lookup is done while step runs.
+ */
+public final class StepBinding {
+
+    /**
+     * Layout of parameters required by the step method
+     */
+    public enum Layout {
+        NO_PARAMETER,
+        //single parameter with "using" as key
+        SINGLE,
+        //multiple parameters with "using" in form of "[key1, key2]" or "key1,key2"
+        MULTI_KEYS,
+        //multiple parameters with "using" as key of array node
+        MULTI_ARRAY
+    }
+
+    static final TypeReference<Object[]> OBJECT_ARRAY = new TypeReference<>() {
+    };
+    static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+    static final TypeReference<Map<String, Object>> OBJECT_MAP = new TypeReference<>() {
+    };
+    static final TypeReference<List<Map<String, Object>>> OBJECT_MAP_LIST = new TypeReference<>() {
+    };
+
+    private static final Map<BindingKey, StepBinding> bindings = new ConcurrentHashMap<>();
+    private static final ObjectMapper mapper = ObjectMapperSingleton.mapper();
+
+    private final Method method;
+    private final MethodHandle invoker;
+    @Getter
+    private final Layout layout;
+    @Getter
+    private final String using;
+    //keys as defined in "using", used for report
+    @Getter
+    private final String[] keys;
+    //trimmed keys, used for test data lookup
+    @Getter
+    private final String[] lookupKeys;
+    private final boolean[] jsonNodeParameters;
+    @Getter
+    private final boolean base64;
+
+    private StepBinding(Method method, String using) {
+        this.method = method;
+        this.invoker = toInvoker(method);
+        this.using = using;
+        this.base64 = Objects.nonNull(using) && using.contains("@base64");
+        int parameterCount = method.getParameterCount();
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        if (parameterCount == 0) {
+            layout = Layout.NO_PARAMETER;
+            keys = new String[0];
+        } else if (parameterCount == 1) {
+            layout = Layout.SINGLE;
+            keys = new String[]{using};
+        } else if (using.contains("[") || using.contains(",")) {
+            layout = Layout.MULTI_KEYS;
+            keys = using.replace("[", "").replace("]", "").split(",");
+            if (keys.length != parameterCount) {
+                throw new ExceptionBase(ExceptionErrorKeys.TEST_DATA_NOT_MATCH);
+            }
+        } else {
+            layout = Layout.MULTI_ARRAY;
+            keys = new String[]{using};
+        }
+        lookupKeys = new String[keys.length];
+        jsonNodeParameters = new boolean[keys.length];
+        for (int index = 0; index < keys.length; index++) {
+            lookupKeys[index] = keys[index].trim();
+            jsonNodeParameters[index] = JsonNode.class.isAssignableFrom(parameterTypes[index]);
+        }
+    }
+
+    /**
+     * get compiled binding of method with "using" definition
+     *
+     * @param method step method
+     * @param using  using definition, null if method requires no parameter
+     * @return binding plan
+     */
+    public static StepBinding of(Method method, String using) {
+        return bindings.computeIfAbsent(new BindingKey(method, using), key -> new StepBinding(key.method(), key.using()));
+    }
+
+    /**
+     * check if parameter with index requires JsonNode and can be passed without conversion
+     *
+     * @param index index of parameter
+     * @return true if parameter type is JsonNode or its subclass
+     */
+    public boolean isJsonNodeParameter(int index) {
+        return jsonNodeParameters[index];
+    }
+
+    /**
+     * convert value for parameter with index
+     *
+     * @param index index of parameter
+     * @param value value from test data container
+     * @return converted value
+     */
+    public Object convert(int index, Object value) {
+        return jsonNodeParameters[index] ? value : castParameter(value);
+    }
+
+    /**
+     * invoke step method on page object
+     *
+     * @param target page object
+     * @param args   parameters
+     * @throws Throwable exception thrown by the step method
+     */
+    public void invoke(Object target, Object... args) throws Throwable {
+        if (Objects.nonNull(invoker)) {
+            Object ignored = (Object) invoker.invokeExact(target, args);
+        } else {
+            try {
+                method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+
+    /**
+     * cast json node value to plain java object
+     *
+     * @param valueObject value object
+     * @return plain object
+     */
+    public static Object castParameter(Object valueObject) {
+        if (valueObject instanceof TextNode textNode) {
+            return textNode.asText();
+        } else if (valueObject instanceof ObjectNode) {//cast to type as expected from method, exp. map
+            return mapper.convertValue(valueObject, OBJECT_MAP);
+        } else if (valueObject instanceof IntNode intNode) {
+            return intNode.asInt();
+        } else if (valueObject instanceof DoubleNode doubleNode) {
+            return doubleNode.asDouble();
+        } else if (valueObject instanceof BooleanNode booleanNode) {
+            return booleanNode.asBoolean();
+        } else if (valueObject instanceof LongNode longNode) {
+            return longNode.asLong();
+        } else if (valueObject instanceof ArrayNode arrayNode) {//cast to type as expected from method, exp. list
+            return mapper.convertValue(arrayNode, STRING_LIST);
+        } else if (valueObject instanceof String text && (text.equals("true") || text.equals("false"))) {
+            return Boolean.parseBoolean(text);
+        } else {
+            return valueObject;
+        }
+    }
+
+    /**
+     * join parameters for step log
+     *
+     * @param args parameters
+     * @return joined text
+     */
+    public static String joinParameters(Object... args) {
+        StringJoiner joiner = new StringJoiner(" | ");
+        for (Object arg : args) {
+            joiner.add(String.valueOf(arg));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * build method handle with signature (Object, Object[])Object for the method
+     *
+     * @param method step method
+     * @return method handle or null if method can not be accessed via public lookup
+     */
+    private static MethodHandle toInvoker(Method method) {
+        int parameterCount = method.getParameterCount();
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(MethodType.genericMethodType(parameterCount + 1))
+                    .asSpreader(Object[].class, parameterCount);
+        } catch (IllegalAccessException ex) {
+            debug("Method Handle of " + method.getName() + " not accessible, use reflection instead: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private record BindingKey(Method method, String using) {
+    }
+}
@@ -0,0 +1,262 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestType;
+import io.github.sleod.tas.common.logging.ScreenCapture;
+import io.github.sleod.tas.configuration.PropertyResolver;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.*;
+
+/**
+ * Watchdog of time budgets of test steps and test cases.
+ * <p>
+ * One shared scheduler thread watches all running steps and test cases, it only schedules and never calls drivers.
+ * On overrun of a step, the thread of the step is interrupted at once. A thread dump is written to the step log and a
+ * screenshot is taken for ui test cases in a short-lived diagnosis thread with a time limit. If the step still does not
+ * return after a grace period, the driver of the test case is closed to release blocking driver calls. On overrun of a
+ * test case, the remaining steps are not executed any more.
+ */
+public final class StepWatchdog {
+
+    private static final long GRACE_SECONDS = 10;
+    //time limit of diagnosis and closing of driver
+    private static final long DIAGNOSIS_SECONDS = 5;
+    private static final Watch NONE = new Watch(null, null, 0);
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("tas-step-watchdog").daemon().factory());
+
+    private StepWatchdog() {
+    }
+
+    /**
+     * watch time budget of step executed in current thread
+     *
+     * @param step           test case step
+     * @param timeoutSeconds time budget in seconds, 0 for no budget
+     * @return watch to close when the step returns
+     */
+    public static Watch watchStep(TestCaseStep step, long timeoutSeconds) {
+        if (timeoutSeconds <= 0) {
+            return NONE;
+        }
+        Watch watch = new Watch("Step " + step.getName(), Thread.currentThread(), timeoutSeconds);
+        ExecutionContext context = ExecutionContext.current();
+        Properties properties = PropertyResolver.geCurrentProperties();
+        watch.schedule(() -> {
+            warn(watch.name + " exceeds time budget of " + watch.timeoutSeconds + " s, step is interrupted.");
+            StackTraceElement[] stalled = watch.thread.getStackTrace();
+            watch.thread.interrupt();
+            watch.diagnosis = startLimited("tas-step-diagnosis", () -> diagnose(watch, stalled, step, context, properties));
+            watch.abort = scheduler.schedule(() -> startLimited("tas-step-abort", () -> abort(watch, context)),
+                    GRACE_SECONDS, TimeUnit.SECONDS);
+        });
+        return watch;
+    }
+
+    /**
+     * watch time budget of test case executed in current thread
+     *
+     * @param testCaseName   name of test case
+     * @param timeoutSeconds time budget in seconds, 0 for no budget
+     * @return watch to close when the test case ends
+     */
+    public static Watch watchTestCase(String testCaseName, long timeoutSeconds) {
+        if (timeoutSeconds <= 0) {
+            return NONE;
+        }
+        Watch watch = new Watch("Test Case " + testCaseName, Thread.currentThread(), timeoutSeconds);
+        ExecutionContext context = ExecutionContext.current();
+        watch.schedule(() -> {
+            warn(watch.name + " exceeds time budget of " + watch.timeoutSeconds + " s, remaining steps are not executed.");
+            context.setStop(true);
+            StackTraceElement[] stalled = watch.thread.getStackTrace();
+            watch.thread.interrupt();
+            TestCaseStep step = context.getCurrentStep();
+            if (step != null) {
+                watch.diagnosis = startLimited("tas-step-diagnosis",
+                        () -> step.getTestStepResult().logInfo(threadDump(watch.thread, stalled)));
+            }
+        });
+        return watch;
+    }
+
+    /**
+     * start short-lived thread, which is interrupted if not finished within time limit of diagnosis
+     *
+     * @param name name of thread
+     * @param task diagnosis or abort of stalled step
+     * @return started thread
+     */
+    private static Thread startLimited(String name, Runnable task) {
+        Thread thread = Thread.ofPlatform().name(name).daemon().start(task);
+        scheduler.schedule(() -> {
+            if (thread.isAlive()) {
+                warn(name + " is not finished in " + DIAGNOSIS_SECONDS + " s and is interrupted.");
+                thread.interrupt();
+            }
+        }, DIAGNOSIS_SECONDS, TimeUnit.SECONDS);
+        return thread;
+    }
+
+    /**
+     * write thread dump to step log and take screenshot in context of watched thread
+     */
+    private static void diagnose(Watch watch, StackTraceElement[] stalled, TestCaseStep step, ExecutionContext context,
+                                 Properties properties) {
+        step.getTestStepResult().logInfo(threadDump(watch.thread, stalled));
+        TestCaseObject testCase = context.getCurrentTest();
+        if (testCase == null || context.getScreenShotTaker() == null
+            || testCase.getTestType() == TestType.REST || testCase.getTestType() == TestType.APP) {
+            return;
+        }
+        ExecutionContext.bind(context);
+        PropertyResolver.setCurrentProperties(properties);
+        try {
+            step.getTestStepResult().setFullScreen(ScreenCapture.takeScreenShot().getScreenshotFile());
+        } catch (Throwable throwable) {
+            warn("Failed to take screenshot of stalled step: " + throwable.getMessage());
+        } finally {
+            PropertyResolver.setCurrentProperties(null);
+            ExecutionContext.unbind();
+        }
+    }
+
+    /**
+     * close driver of step, which does not respond to interrupt
+     */
+    private static void abort(Watch watch, ExecutionContext context) {
+        if (watch.closed) {
+            return;
+        }
+        warn(watch.name + " does not respond to interrupt, driver is closed.");
+        watch.driverClosed = true;
+        try {
+            if (context.getScreenShotTaker() != null) {
+                context.getScreenShotTaker().close();
+            }
+        } catch (Throwable throwable) {
+            warn("Failed to close driver of stalled step: " + throwable.getMessage());
+        }
+        watch.thread.interrupt();
+    }
+
+    /**
+     * @param thread  stalled thread
+     * @param stalled stack trace of thread before interrupt
+     * @return dump of stalled thread and all threads
+     */
+    private static String threadDump(Thread thread, StackTraceElement[] stalled) {
+        StringBuilder dump = new StringBuilder("Stalled thread: ").append(thread.getName()).append("\n");
+        for (StackTraceElement element : stalled) {
+            dump.append("\tat ").append(element).append("\n");
+        }
+        dump.append("All threads:\n");
+        for (ThreadInfo threadInfo : ManagementFactory.getThreadMXBean().dumpAllThreads(false, false)) {
+            dump.append(threadInfo);
+        }
+        return dump.toString();
+    }
+
+    /**
+     * watch of one step or test case
+     */
+    public static final class Watch implements AutoCloseable {
+        private static final int RUNNING = 0;
+        private static final int OVERRUN = 1;
+        private static final int CLOSED = 2;
+        private final String name;
+        private final Thread thread;
+        private final long timeoutSeconds;
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private ScheduledFuture<?> overrun;
+        private volatile ScheduledFuture<?> abort;
+        private volatile Thread diagnosis;
+        private volatile boolean driverClosed = false;
+        private volatile boolean closed = false;
+
+        private Watch(String name, Thread thread, long timeoutSeconds) {
+            this.name = name;
+            this.thread = thread;
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        private void schedule(Runnable onOverrun) {
+            overrun = scheduler.schedule(() -> {
+                if (state.compareAndSet(RUNNING, OVERRUN)) {
+                    onOverrun.run();
+                }
+            }, timeoutSeconds, TimeUnit.SECONDS);
+        }
+
+        /**
+         * @return true if the time budget was exceeded
+         */
+        public boolean isOverrun() {
+            return state.get() == OVERRUN;
+        }
+
+        /**
+         * @return true if the driver was closed because the step did not respond to interrupt
+         */
+        public boolean isDriverClosed() {
+            return driverClosed;
+        }
+
+        /**
+         * @return time budget in seconds
+         */
+        public long getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        /**
+         * stop watching, interrupt flag caused by overrun is cleared
+         */
+        @Override
+        public void close() {
+            if (thread == null || state.compareAndSet(RUNNING, CLOSED)) {
+                if (overrun != null) {
+                    overrun.cancel(false);
+                }
+                return;
+            }
+            closed = true;
+            //overrun handling may still run, wait for it before clearing interrupt flag
+            Thread.interrupted();
+            try {
+                overrun.get();
+            } catch (InterruptedException ex) {
+                //interrupted by overrun handling
+                try {
+                    overrun.get();
+                } catch (Exception ignored) {
+                    //nothing to wait for
+                }
+            } catch (ExecutionException ignored) {
+                //failure of overrun handling is not relevant for step
+            }
+            if (abort != null) {
+                abort.cancel(false);
+            }
+            //complete step result with diagnosis, which is limited in time
+            Thread pending = diagnosis;
+            if (pending != null) {
+                try {
+                    pending.join(TimeUnit.SECONDS.toMillis(DIAGNOSIS_SECONDS));
+                } catch (InterruptedException ignored) {
+                    //interrupt flag is cleared anyway
+                }
+            }
+            Thread.interrupted();
+        }
+    }
+}
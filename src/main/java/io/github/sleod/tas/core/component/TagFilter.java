@@ -0,0 +1,233 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meta filter compiled once into a predicate over interned tag bit sets.
+ * <p>
+ * Each entry of meta filter is one of:
+ * <ul>
+ *     <li>legacy notation "+CI", "+@CI" to include and "-Smoke", "-@Smoke" to exclude test cases with tag. Legacy entries
+ *     are combined as: any include tag and no exclude tag</li>
+ *     <li>tag expression like "@CI &amp; !(@Smoke | @Slow)" with operators "!" / "not", "&amp;" / "and", "|" / "or" and
+ *     parentheses, in precedence of not, and, or</li>
+ * </ul>
+ * All entries must be fulfilled. Leading "@" of tags is optional.
+ */
+public final class TagFilter {
+
+    private static final Map<String, Integer> tagIndexes = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextIndex = new AtomicInteger();
+    private static final Map<List<String>, TagFilter> compiledFilters = new ConcurrentHashMap<>();
+    private static final TagFilter ACCEPT_ALL = new TagFilter(null);
+
+    private final Node root;
+
+    private TagFilter(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * compile meta filters, compiled filters are cached
+     *
+     * @param metaFilters meta filters
+     * @return tag filter
+     */
+    public static TagFilter compile(List<String> metaFilters) {
+        if (metaFilters == null || metaFilters.isEmpty()) {
+            return ACCEPT_ALL;
+        }
+        return compiledFilters.computeIfAbsent(List.copyOf(metaFilters), TagFilter::doCompile);
+    }
+
+    /**
+     * @return true if all test cases are accepted without checking tags
+     */
+    public boolean isAcceptAll() {
+        return root == null;
+    }
+
+    /**
+     * check tags of test case
+     *
+     * @param tags meta tags of test case, may be null
+     * @return true if test case is accepted
+     */
+    public boolean test(Collection<String> tags) {
+        return root == null || root.test(toBitSet(tags));
+    }
+
+    private static TagFilter doCompile(List<String> metaFilters) {
+        BitSet includes = new BitSet();
+        BitSet excludes = new BitSet();
+        boolean hasLegacy = false;
+        List<Node> nodes = new ArrayList<>();
+        for (String filter : metaFilters) {
+            String trimmed = filter.trim();
+            if (trimmed.isEmpty()) {
+                //matches no tag like before
+                hasLegacy = true;
+            } else if (trimmed.startsWith("+")) {
+                hasLegacy = true;
+                includes.set(indexOf(trimmed.substring(1)));
+            } else if (trimmed.startsWith("-")) {
+                hasLegacy = true;
+                excludes.set(indexOf(trimmed.substring(1)));
+            } else {
+                nodes.add(new Parser(trimmed).parse());
+            }
+        }
+        if (hasLegacy) {
+            nodes.add(bits -> includes.intersects(bits) && !excludes.intersects(bits));
+        }
+        return new TagFilter(bits -> {
+            for (Node node : nodes) {
+                if (!node.test(bits)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    private static BitSet toBitSet(Collection<String> tags) {
+        BitSet bits = new BitSet();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null) {
+                    bits.set(indexOf(tag));
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static int indexOf(String tag) {
+        String normalized = tag.trim();
+        if (normalized.startsWith("@")) {
+            normalized = normalized.substring(1);
+        }
+        return tagIndexes.computeIfAbsent(normalized, key -> nextIndex.getAndIncrement());
+    }
+
+    @FunctionalInterface
+    private interface Node {
+        boolean test(BitSet bits);
+    }
+
+    /**
+     * recursive descent parser of tag expression
+     */
+    private static final class Parser {
+        private final String expression;
+        private final List<String> tokens = new ArrayList<>();
+        private int position = 0;
+
+        private Parser(String expression) {
+            this.expression = expression;
+            tokenize();
+        }
+
+        private Node parse() {
+            Node node = parseOr();
+            if (position < tokens.size()) {
+                throw error("unexpected '" + tokens.get(position) + "'");
+            }
+            return node;
+        }
+
+        private Node parseOr() {
+            Node left = parseAnd();
+            while (accept("|", "or")) {
+                Node l = left;
+                Node r = parseAnd();
+                left = bits -> l.test(bits) || r.test(bits);
+            }
+            return left;
+        }
+
+        private Node parseAnd() {
+            Node left = parseNot();
+            while (accept("&", "and")) {
+                Node l = left;
+                Node r = parseNot();
+                left = bits -> l.test(bits) && r.test(bits);
+            }
+            return left;
+        }
+
+        private Node parseNot() {
+            if (accept("!", "not")) {
+                Node node = parseNot();
+                return bits -> !node.test(bits);
+            }
+            if (accept("(", "(")) {
+                Node node = parseOr();
+                if (!accept(")", ")")) {
+                    throw error("missing ')'");
+                }
+                return node;
+            }
+            if (position >= tokens.size()) {
+                throw error("tag expected at end");
+            }
+            String token = tokens.get(position++);
+            if ("|&)".contains(token) || isKeyword(token)) {
+                throw error("tag expected before '" + token + "'");
+            }
+            int index = indexOf(token);
+            return bits -> bits.get(index);
+        }
+
+        private boolean accept(String symbol, String keyword) {
+            if (position < tokens.size()) {
+                String token = tokens.get(position);
+                if (token.equals(symbol) || token.equalsIgnoreCase(keyword)) {
+                    position++;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isKeyword(String token) {
+            return token.equalsIgnoreCase("and") || token.equalsIgnoreCase("or") || token.equalsIgnoreCase("not");
+        }
+
+        private void tokenize() {
+            StringBuilder tag = new StringBuilder();
+            char previous = 0;
+            for (char c : expression.toCharArray()) {
+                if ((c == '&' || c == '|') && c == previous) {
+                    //"&&" and "||" are same as "&" and "|"
+                    previous = 0;
+                    continue;
+                }
+                previous = c;
+                if (Character.isWhitespace(c) || "()!&|".indexOf(c) >= 0) {
+                    if (!tag.isEmpty()) {
+                        tokens.add(tag.toString());
+                        tag.setLength(0);
+                    }
+                    if (!Character.isWhitespace(c)) {
+                        tokens.add(String.valueOf(c));
+                    }
+                } else {
+                    tag.append(c);
+                }
+            }
+            if (!tag.isEmpty()) {
+                tokens.add(tag.toString());
+            }
+        }
+
+        private ExceptionBase error(String reason) {
+            return new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "Invalid meta filter expression '" + expression + "': " + reason);
+        }
+    }
+}
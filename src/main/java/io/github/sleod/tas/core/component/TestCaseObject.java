@@ -13,6 +13,7 @@ import io.github.sleod.tas.core.annotations.TestObject;
 import io.github.sleod.tas.core.json.container.JSONPageConfig;
 import io.github.sleod.tas.core.json.container.JSONTestCase;
 import io.github.sleod.tas.core.json.container.JSONTestCaseStep;
+import io.github.sleod.tas.core.json.container.JSONTestResult;
 import io.github.sleod.tas.core.json.container.JsonTestCaseMetaData;
 import io.github.sleod.tas.core.json.deserialization.JSONContainerFactory;
 import io.github.sleod.tas.core.report.ReportBuilder;
@@ -20,6 +21,7 @@ import io.github.sleod.tas.core.report.allure.ReportBuilderAllureService;
 import io.github.sleod.tas.core.service.FeedbackService;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.junit.jupiter.api.DynamicTest;
@@ -61,6 +63,9 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
     @Setter private ReportBuilder reportBuilder;
     @Setter private JsonTestCaseMetaData jsonTestCaseMetaData;
     private final String originalName;
+    //watch of time budget while test case is running
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) private StepWatchdog.Watch testCaseWatch;
+    @Setter(AccessLevel.NONE) private boolean sessionReused = false;
 
     /**
      * create test case object with JSON test case object
@@ -120,19 +125,13 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
      */
     public void initTestObjects(List<String> pageObjectNames) {
         String taPackageName = PropertyResolver.getTestautomationPackage();
-        Set<Class<?>> annotateClazz = AnnotationReflector.getAnnotatedClass(taPackageName, TestObject.class);
-        if (annotateClazz.isEmpty()) {
+        if (TestObjectRegistry.getTestObjects(taPackageName).isEmpty()) {
             throw new ExceptionBase(ExceptionErrorKeys.IMPLEMENTATION_NOT_FOUND, pageObjectNames, taPackageName);
         }
-        for (Class<?> clazz : annotateClazz) {
-            TestObject annotation = clazz.getAnnotation(TestObject.class);
-            if (annotation.name().isEmpty()) {//to avoid class inherit with annotation but not specified in own class
-                throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE,
-                        clazz + " has inherited Annotation but not specified with own name. And this class will not be initialized!!");
-            }
-            String pageObjectName = annotation.name();
-            if (pageObjectNames.contains(pageObjectName)) {
-                String config = annotation.definedBy();
+        for (String pageObjectName : pageObjectNames) {
+            Class<?> clazz = TestObjectRegistry.getTestObject(taPackageName, pageObjectName);
+            if (clazz != null) {
+                String config = clazz.getAnnotation(TestObject.class).definedBy();
                 //override findBy content via config file
                 try {
                     updatePageObjectClass(clazz, config, testType);
@@ -215,51 +214,96 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
      * after test
      */
     public void afterTest() {
+        if (testCaseWatch != null) {
+            testCaseWatch.close();
+            testCaseWatch = null;
+        }
         info("Finish Test Case: " + getName());
         info("Invoke: @AfterTest");
         invokeWithAnnotation(AfterTest.class);
         testRunResult.stopNow("Test Case Ends: " + getName());
-        //default after test: build Report
-        getReportBuilder().stopRecordingTest(testRunResult);
+        FailureCircuitBreaker.record(testRunResult);
+        if (sessionReused && testRunResult.getStatus() != TestStatus.PASS) {
+            //session may be expired, next test case of user logs in again
+            SessionStore.invalidate(testCase.getSessionUser());
+        }
         testDataContainer.clearPageObjects();
         if (getTestCaseId().isEmpty() && !getTestCaseIdMap().isEmpty() && isValid(DriverManager.getCurrentPlatform())) {
             setTestCaseId(getTestCaseIdMap().get(DriverManager.getCurrentPlatform()));
         }
+        //snapshot of results in test thread, which holds driver and context of test case
+        Map<String, TestRunResult> jiraResults = null;
         try {
+            if (PropertyResolver.isGenerateVideoEnabled() && !PropertyResolver.isExecutionRemoteParallelEnabled()) {
+                DriverManager.stopRecordingScreen(testRunResult);
+            }
             if (PropertyResolver.isJIRASyncEnabled()) {
-                new FeedbackService().jiraFeedback(Collections.singletonList(this));
+                jiraResults = new FeedbackService().collectJiraResults(Collections.singletonList(this));
+            }
+        } catch (Throwable throwable) {
+            info("Feedback failed: "+ throwable.getMessage());
+            debug(() -> "Feedback failed: " + throwable.getMessage() + System.lineSeparator() + Arrays.toString(throwable.getStackTrace()));
+        }
+        getReportBuilder().stopRecordingTest(testRunResult);
+        JSONTestResult allureResult = getReportBuilder().buildAllureResult(this);
+        Map<String, TestRunResult> jiraFeedback = jiraResults;
+        PostTestPipeline.submit(getName(), () -> postProcess(allureResult, jiraFeedback));
+        boolean previewSetting = PropertyResolver.isKeepBrowserOnErrorEnabled();
+        boolean isKeepBrowser = previewSetting && testRunResult.getStatus().equals(TestStatus.FAIL);
+        //restart driver
+        if (PropertyResolver.isRestartDriverAfterExecutionEnabled() || isKeepBrowser) {
+            PropertyResolver.setKeepBrowserOnErrorEnabled(isKeepBrowser);
+            DriverManager.closeDriver();
+            PropertyResolver.setKeepBrowserOnErrorEnabled(previewSetting);//reset to preview
+        }
+        //remove chrome profile
+        FileOperation.deleteFolder(new File(PropertyResolver.getBrowserProfileDir()));
+    }
+
+    /**
+     * write allure results, feedback and upload results of test case
+     *
+     * @param allureResult allure result of test case
+     * @param jiraResults  results for jira feedback, null if not enabled
+     */
+    private void postProcess(JSONTestResult allureResult, Map<String, TestRunResult> jiraResults) {
+        try {
+            if (jiraResults != null) {
+                new FeedbackService().jiraFeedback(jiraResults);
             }
             if (PropertyResolver.isSyncToQCEnabled()) {
                 new FeedbackService().qcFeedback(Collections.singletonList(this));
             }
-            if (PropertyResolver.isGenerateVideoEnabled() && !PropertyResolver.isExecutionRemoteParallelEnabled()) {
-                DriverManager.stopRecordingScreen(testRunResult);
-            }
         } catch (Throwable throwable) {
             info("Feedback failed: "+ throwable.getMessage());
-            debug("Feedback failed: " + throwable.getMessage() + System.lineSeparator() + Arrays.toString(throwable.getStackTrace()));
+            debug(() -> "Feedback failed: " + throwable.getMessage() + System.lineSeparator() + Arrays.toString(throwable.getStackTrace()));
         }
-        info("Generate Allure Result: " + getName());
+        info("Generate Allure Result: " + allureResult.getName());
         //generate allure results files for this test case
-        List<String> filePaths = getReportBuilder().generateAllureResults(this);
+        List<String> filePaths = JSONContainerFactory.regenerateAllureResults(Collections.singletonList(allureResult));
         try {
             if (PropertyResolver.isAllureReportServiceEnabled()) {
                 info("Upload Allure Results to Server.");
                 new ReportBuilderAllureService().uploadAllureResults(filePaths);
             }
         } catch (Throwable throwable) {
-            debug("Allure Report Upload failed: " + throwable.getMessage() + System.lineSeparator() + Arrays.toString(throwable.getStackTrace()));
+            debug(() -> "Allure Report Upload failed: " + throwable.getMessage() + System.lineSeparator() + Arrays.toString(throwable.getStackTrace()));
         }
-        boolean previewSetting = PropertyResolver.isKeepBrowserOnErrorEnabled();
-        boolean isKeepBrowser = previewSetting && testRunResult.getStatus().equals(TestStatus.FAIL);
-        //restart driver
-        if (PropertyResolver.isRestartDriverAfterExecutionEnabled() || isKeepBrowser) {
-            PropertyResolver.setKeepBrowserOnErrorEnabled(isKeepBrowser);
-            DriverManager.closeDriver();
-            PropertyResolver.setKeepBrowserOnErrorEnabled(previewSetting);//reset to preview
+        //results are only read again by reports at the end of the run
+        if (PropertyResolver.isResultSpillEnabled()) {
+            testRunResult.spill();
         }
-        //remove chrome profile
-        FileOperation.deleteFolder(new File(PropertyResolver.getBrowserProfileDir()));
+        if (PropertyResolver.isTestCaseLazyLoadEnabled()) {
+            release();
+        }
+    }
+
+    /**
+     * release steps and test objects after execution, the test run result is kept for reports
+     */
+    public void release() {
+        steps.clear();
+        pageObjects.clear();
     }
 
     /**
@@ -268,12 +312,16 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
     public void beforeTest() {
         //check @NonHeadless Annotation to reset driver option
         boolean shouldRestoreSession = checkNonHeadlessMethod();
+        //environment is broken, steps are skipped without driver
+        boolean skipped = FailureCircuitBreaker.isOpen();
         try {
-            TestRunManager.loadDriver(getTestCase(), getName());
+            if (!skipped) {
+                TestRunManager.loadDriver(getTestCase(), getName());
+            }
         } catch (Throwable throwable) {
             fatal(throwable);
         }
-        if (shouldRestoreSession) {
+        if (shouldRestoreSession && !skipped) {
             TestRunManager.restoreSessions();
         }
         testRunResult.setName(getName());
@@ -282,17 +330,21 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
         invokeWithAnnotation(BeforeTest.class);
         info("Start Test Case: " + getName());
         getReportBuilder().startRecordingTest(testRunResult);
-        if (testCase.getType().contains("web_app")) {
+        if (skipped) {
+            info("Test Case is skipped: " + FailureCircuitBreaker.getOpenReason());
+        } else if (testCase.getType().contains("web_app")) {
             String url = testCase.getStartURL();
             if (isValid(url)) {
                 DriverManager.openUrl(url);
             } else if (isValid(PropertyResolver.getStartUrl())) {
                 DriverManager.openUrl(PropertyResolver.getStartUrl());
             }
+            sessionReused = SessionStore.inject(testCase.getSessionUser());
         }
-        if (PropertyResolver.isGenerateVideoEnabled() && !PropertyResolver.isExecutionRemoteParallelEnabled()) {
+        if (PropertyResolver.isGenerateVideoEnabled() && !PropertyResolver.isExecutionRemoteParallelEnabled() && !skipped) {
             DriverManager.startRecordingScreen();
         }
+        testCaseWatch = StepWatchdog.watchTestCase(getName(), PropertyResolver.getTestCaseTimeout());
     }
 
     /**
@@ -378,6 +430,13 @@ public class TestCaseObject implements Comparable<TestCaseObject> {
      * @throws IllegalAccessException access exception
      */
     private void updatePageObjectClass(Class<?> clazz, String config, TestType testType) throws NoSuchFieldException, IllegalAccessException {
+        //annotations of the class are shared, avoid concurrent update while test cases are loaded in parallel
+        synchronized (clazz) {
+            doUpdatePageObjectClass(clazz, config, testType);
+        }
+    }
+
+    private void doUpdatePageObjectClass(Class<?> clazz, String config, TestType testType) throws NoSuchFieldException, IllegalAccessException {
         if (!config.isEmpty()) {
             String configLocation = PropertyResolver.getPageConfigLocation();
             JSONPageConfig jsonPageConfig = JSONContainerFactory.readTestObjectConfig(configLocation + config);
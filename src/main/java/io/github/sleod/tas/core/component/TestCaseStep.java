@@ -1,10 +1,9 @@
 package io.github.sleod.tas.core.component;
 
-import com.beust.jcommander.Strings;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.*;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import io.github.sleod.tas.common.enumerations.ScreenshotLevel;
 import io.github.sleod.tas.common.enumerations.TestStatus;
 import io.github.sleod.tas.common.enumerations.TestType;
@@ -25,7 +24,6 @@ import org.junit.jupiter.api.function.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.lang.reflect.Type;
 import java.util.*;
 
 import static io.github.sleod.tas.common.logging.SystemLogger.logStepInfo;
@@ -57,6 +55,7 @@ public class TestCaseStep implements Executable {
     private final String name;
     private TestRunResult testRunResult;
     private final Method runMethod;
+    private StepBinding stepBinding;
     private boolean noRun = false;
     @Getter
     @Setter
@@ -129,47 +128,36 @@ public class TestCaseStep implements Executable {
      */
     public void run() {
         TestStepMonitor.setCurrentStep(this);
+        testStepResult.beginLog(testRunResult == null ? null : testRunResult.getTestCaseLog());
         logStepInfo("Step Start: " + testStepResult.getName());
         if (TestStepMonitor.isStop() || noRun) {
             noRun();
+        } else if (FailureCircuitBreaker.isOpen()) {
+            noRun();
+            testStepResult.setActual("Skipped: " + FailureCircuitBreaker.getOpenReason());
+        } else if (isLoginStep() && TestStepMonitor.getCurrentTest().isSessionReused()) {
+            noRun();
+            testStepResult.setActual("Skipped: session of user " + TestStepMonitor.getCurrentTest().getTestCase().getSessionUser() + " is reused");
         } else {
+            StepWatchdog.Watch watch = StepWatchdog.watchStep(this, getTimeoutSeconds());
             try {
                 //prepare step
                 beforeStep();
                 testStepResult.setTestMethod(runMethod.getName());
-                //staring handling parameters
-                int parameterCount = runMethod.getParameterCount();
-                if (parameterCount == 0) {//case no parameter required
-                    invokeMethod(runMethod, pageObject); //invoke directly
-                } else {//case parameter required
-                    String using = getUsingFromJsonTestcaseStep();
-                    if (parameterCount == 1) {// single param required
-                        Object parameter = getParameterFromDataContainer(using);
-                        // When the test step needs a JsonNode parameter, call it and leave this code block section
-                        Type[] genericParameterTypes = runMethod.getParameterTypes();
-                        if (isJsonNodeParameter(genericParameterTypes[0])) {
-                            invokeThis(parameter);
-                            this.parameters.put(using, parameter);
+                //binding of parameters is resolved once per method and using definition
+                StepBinding binding = getStepBinding();
+                switch (binding.getLayout()) {
+                    case NO_PARAMETER -> invokeThis(binding); //invoke directly
+                    case SINGLE -> invokeWithSingleParameter(binding);
+                    case MULTI_KEYS -> invokeThis(binding, extractAndProcessParameters(binding));
+                    case MULTI_ARRAY -> {
+                        Object parameter = getParameterFromDataContainer(binding.getUsing());
+                        if (parameter instanceof ArrayNode arrayNode) {
+                            Object[] parameters = mapper.convertValue(arrayNode, StepBinding.OBJECT_ARRAY);
+                            this.parameters.put(binding.getUsing(), arrayNode.toPrettyString());
+                            invokeThis(binding, parameters);
                         } else {
-                            //start casing param type
-                            invokeMethodeAfterConvertParameter(parameter, using);
-                        }
-                    } else {// multi-param required
-                        Object[] parameters;
-                        //String Array zerlegen
-                        if (using.contains("[") || using.contains(",")) {
-                            parameters = extractAndProcessParameters(using);
-                            invokeThis(parameters);
-                        } else {
-                            Object parameter = getParameterFromDataContainer(using);
-                            if (parameter instanceof ArrayNode) {
-                                parameters = mapper.convertValue(parameter, new TypeReference<>() {
-                                });
-                                this.parameters.put(using, ((ArrayNode) parameter).toPrettyString());
-                                invokeThis(parameters);
-                            } else {
-                                throw new ExceptionBase(ExceptionErrorKeys.TEST_DATA_NOT_MATCH);
-                            }
+                            throw new ExceptionBase(ExceptionErrorKeys.TEST_DATA_NOT_MATCH);
                         }
                     }
                 }
@@ -189,8 +177,15 @@ public class TestCaseStep implements Executable {
                 testStepResult.setTestFailure(new TestFailure(issue));
                 noRun = isStopOnError() || isSkipOnError();
                 TestStepMonitor.setIsStop(noRun);
+            } finally {
+                watch.close();
+            }
+            if (watch.isOverrun()) {
+                handleOverrun(watch);
+            }
+            if (isLoginStep() && testStepResult.getStatus().equals(TestStatus.PASS)) {
+                SessionStore.capture(TestStepMonitor.getCurrentTest().getTestCase().getSessionUser());
             }
-
         }
         testStepResult.stopNow();
         logStepInfo("Step End: " + getName());
@@ -199,42 +194,106 @@ public class TestCaseStep implements Executable {
     }
 
     /**
-     * handle parameter after read from test data container
+     * get time budget of step, defined in test case step, in annotation or globally
      *
-     * @param parameter parameter object
-     * @param using     using definition
+     * @return time budget in seconds, 0 for no budget
+     */
+    private long getTimeoutSeconds() {
+        if (isValid(jsonTestCaseStep.getTimeout())) {
+            try {
+                return Long.parseLong(jsonTestCaseStep.getTimeout().trim());
+            } catch (NumberFormatException ex) {
+                warn("Invalid timeout of step " + getName() + ": " + jsonTestCaseStep.getTimeout() + ", it is ignored.");
+            }
+        }
+        if (runMethod != null && runMethod.isAnnotationPresent(TestStep.class) && runMethod.getDeclaredAnnotation(TestStep.class).timeout() > 0) {
+            return runMethod.getDeclaredAnnotation(TestStep.class).timeout();
+        }
+        return PropertyResolver.getStepTimeout();
+    }
+
+    /**
+     * check if step logs in session user, defined in test case step or in annotation
+     *
+     * @return true if step is login step
+     */
+    private boolean isLoginStep() {
+        if (isValid(jsonTestCaseStep.getLogin())) {
+            return jsonTestCaseStep.getLogin().trim().equalsIgnoreCase("true");
+        }
+        return runMethod != null && runMethod.isAnnotationPresent(TestStep.class) && runMethod.getDeclaredAnnotation(TestStep.class).login();
+    }
+
+    /**
+     * fail step which exceeded time budget, even if it returned normally after interrupt
+     *
+     * @param watch watch of step
+     */
+    private void handleOverrun(StepWatchdog.Watch watch) {
+        String message = "Step exceeds time budget of " + watch.getTimeoutSeconds() + " s!";
+        if (!testStepResult.getStatus().equals(TestStatus.FAIL)) {
+            testStepResult.setStatus(TestStatus.FAIL);
+            testStepResult.setTestFailure(new TestFailure(new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, message)));
+        }
+        testStepResult.setActual(message);
+        noRun = isStopOnError();
+        TestStepMonitor.setIsStop(noRun);
+        if (watch.isDriverClosed()) {
+            //driver is closed by watchdog, remove it from current thread
+            try {
+                DriverManager.closeDriver();
+            } catch (Throwable throwable) {
+                warn("Failed to remove closed driver: " + throwable.getMessage());
+            }
+        }
+    }
+
+    /**
+     * get binding of run method with using definition
+     *
+     * @return step binding
      */
-    private void invokeMethodeAfterConvertParameter(Object parameter, String using) throws InvocationTargetException, IllegalAccessException {
-        if (parameter instanceof ArrayNode arrayNode) {// Array Node
-            Iterator<JsonNode> elements = arrayNode.elements();
-            JsonNode elementNode = elements.next();
-            invokeMethodeBasedOnNodeContent(using, arrayNode, elementNode);
+    private StepBinding getStepBinding() {
+        if (stepBinding == null) {
+            String using = runMethod.getParameterCount() == 0 ? null : getUsingFromJsonTestcaseStep();
+            stepBinding = StepBinding.of(runMethod, using);
+        }
+        return stepBinding;
+    }
+
+    /**
+     * handle single parameter after read from test data container
+     *
+     * @param binding step binding
+     */
+    private void invokeWithSingleParameter(StepBinding binding) throws Throwable {
+        String using = binding.getUsing();
+        Object parameter = getParameterFromDataContainer(using);
+        // When the test step needs a JsonNode parameter, call it directly
+        if (binding.isJsonNodeParameter(0)) {
+            invokeThis(binding, parameter);
+            this.parameters.put(using, parameter);
+        } else if (parameter instanceof ArrayNode arrayNode) {// Array Node
+            invokeMethodeBasedOnNodeContent(binding, arrayNode, arrayNode.elements().next());
         } else {//Object Node
-            invokeMethodeWithObjectNode(using, parameter);
+            invokeMethodeWithObjectNode(binding, parameter);
         }
     }
 
     /**
-     * extract multiple parameters from using definition and process them
+     * extract multiple parameters from using keys and process them
      *
-     * @param using using definition
+     * @param binding step binding
      * @return array of parameters
      */
-    private Object[] extractAndProcessParameters(String using) {
-        Object[] parameters;
-        String[] usingKeys = using.replace("[", "").replace("]", "").split(",");
-        parameters = new Object[usingKeys.length];
+    private Object[] extractAndProcessParameters(StepBinding binding) {
+        String[] usingKeys = binding.getKeys();
+        String[] lookupKeys = binding.getLookupKeys();
+        Object[] parameters = new Object[usingKeys.length];
         for (int index = 0; index < usingKeys.length; index++) {
             //Key Werte welche im Array mitgegeben werden nun aus dem TestdataContainer auslesen
-            Object valueObject = getParameterFromDataContainer(usingKeys[index].trim());
-
             //So kann eine Methode beide Wert haben also einen JSONNode oder eine List Definition
-            Type[] genericParameterTypes = runMethod.getParameterTypes();
-            if (isJsonNodeParameter(genericParameterTypes[index])) {
-                parameters[index] = valueObject;
-            } else {
-                parameters[index] = castParameter(valueObject);
-            }
+            parameters[index] = binding.convert(index, getParameterFromDataContainer(lookupKeys[index]));
             this.parameters.put(usingKeys[index], parameters[index]);
         }
         return parameters;
@@ -256,16 +315,6 @@ public class TestCaseStep implements Executable {
         return parameter;
     }
 
-    /**
-     * check if parameter type is JsonNode or its subclass
-     *
-     * @param genericParameterType parameter type
-     * @return true if parameter type is JsonNode or its subclass
-     */
-    private boolean isJsonNodeParameter(Type genericParameterType) {
-        return genericParameterType instanceof Class<?> && JsonNode.class.isAssignableFrom((Class<?>) genericParameterType);
-    }
-
     /**
      * get using definition from json test case step or from annotation
      *
@@ -288,74 +337,39 @@ public class TestCaseStep implements Executable {
     /**
      * invoke method with object node parameter
      *
-     * @param using     using definition
+     * @param binding   step binding
      * @param parameter parameter object
      */
-    private void invokeMethodeWithObjectNode(String using, Object parameter) throws InvocationTargetException, IllegalAccessException {
-        if (using.contains("@base64")) {
+    private void invokeMethodeWithObjectNode(StepBinding binding, Object parameter) throws Throwable {
+        if (binding.isBase64()) {
             parameter = PropertyResolver.decodeBase64(((TextNode) parameter).asText());
         }
-        Object parameterObject = castParameter(parameter);
-        parameters.put(using, parameterObject);
-        invokeThis(parameterObject);
+        Object parameterObject = StepBinding.castParameter(parameter);
+        parameters.put(binding.getUsing(), parameterObject);
+        invokeThis(binding, parameterObject);
     }
 
     /**
      * invoke method based on array node content
      *
-     * @param using       using definition
+     * @param binding     step binding
      * @param arrayNode   array node
      * @param elementNode first element of array node
      */
-    private void invokeMethodeBasedOnNodeContent(String using, ArrayNode arrayNode, JsonNode elementNode) throws InvocationTargetException, IllegalAccessException {
+    private void invokeMethodeBasedOnNodeContent(StepBinding binding, ArrayNode arrayNode, JsonNode elementNode) throws Throwable {
         if (elementNode.isValueNode()) {//in case plain array, wrap to string list
-            List<String> textNodeValues = mapper.convertValue(arrayNode, new TypeReference<>() {
-            });
-            invokeThis(textNodeValues);
-            parameters.put(using, textNodeValues);
+            List<String> textNodeValues = mapper.convertValue(arrayNode, StepBinding.STRING_LIST);
+            invokeThis(binding, textNodeValues);
+            parameters.put(binding.getUsing(), textNodeValues);
         } else {//in case object node array, wrap to map list
-            List<Map<String, Object>> objectNodesValues = mapper.convertValue(arrayNode, new TypeReference<>() {
-            });
-            invokeThis(objectNodesValues);
+            List<Map<String, Object>> objectNodesValues = mapper.convertValue(arrayNode, StepBinding.OBJECT_MAP_LIST);
+            invokeThis(binding, objectNodesValues);
             for (int i = 0; i < objectNodesValues.size(); i++) {
                 parameters.put("" + (i + 1), objectNodesValues.get(i));
             }
         }
     }
 
-    /**
-     * invoke method with parameters
-     *
-     * @param parameter parameters
-     */
-    private void invokeThis(Object... parameter) throws InvocationTargetException, IllegalAccessException {
-        invokeMethod(runMethod, pageObject, parameter);
-    }
-
-    private Object castParameter(Object valueObject) {
-        if (valueObject instanceof TextNode textNode) {
-            return textNode.asText();
-        } else if (valueObject instanceof ObjectNode) {//cast to type as expected from method, exp. map
-            return mapper.<Map<String, Object>>convertValue(valueObject, new TypeReference<>() {
-            });
-        } else if (valueObject instanceof IntNode intNode) {
-            return intNode.asInt();
-        } else if (valueObject instanceof DoubleNode doubleNode) {
-            return doubleNode.asDouble();
-        } else if (valueObject instanceof BooleanNode booleanNode) {
-            return booleanNode.asBoolean();
-        } else if (valueObject instanceof LongNode longNode) {
-            return longNode.asLong();
-        } else if (valueObject instanceof ArrayNode arrayNode) {//cast to type as expected from method, exp. list
-            return mapper.<List<String>>convertValue(arrayNode, new TypeReference<>() {
-            });
-        } else if (String.valueOf(valueObject).matches("true|false")) {
-            return Boolean.parseBoolean(valueObject.toString());
-        } else {
-            return valueObject;
-        }
-    }
-
     private Object checkIsNotNull(Object parameter) {
         if (Objects.isNull(parameter)) {
             throw new ExceptionBase(ExceptionErrorKeys.NULL_EXCEPTION, "Parameter for test step: " + getName());
@@ -364,17 +378,21 @@ public class TestCaseStep implements Executable {
     }
 
     /**
-     * invoke method with args
+     * invoke run method with args via step binding
      *
-     * @param method   method to invoke
-     * @param instance target
-     * @param args     parameters
+     * @param binding step binding
+     * @param args    parameters
      */
-    private void invokeMethod(Method method, Object instance, Object... args) throws InvocationTargetException, IllegalAccessException {
+    private void invokeThis(StepBinding binding, Object... args) throws Throwable {
         if (args.length > 0) {
-            logStepInfo("Parameters: " + Strings.join(" | ", Arrays.stream(args).map(Object::toString).toList()));
+            logStepInfo("Parameters: " + StepBinding.joinParameters(args));
+        }
+        try {
+            binding.invoke(pageObject, args);
+        } catch (Throwable ex) {
+            //exception of step method itself, only test data lookup of framework leads to skip on error
+            throw new InvocationTargetException(ex);
         }
-        method.invoke(instance, args);
         testStepResult.setStatus(TestStatus.PASS);
     }
 
@@ -390,6 +408,7 @@ public class TestCaseStep implements Executable {
                 safeCallMethod(runMethod.getDeclaredAnnotation(UndoOnError.class).value());
             }
         }
+        testStepResult.endLog();
         TestStepMonitor.processResult(testStepResult);
     }
 
@@ -474,16 +493,7 @@ public class TestCaseStep implements Executable {
      * @return the method
      */
     private Method getMethodWithAnnoName(String name) {
-        //get all public methods
-        Method method = null;
-        Method[] methods = testObjectClass.getMethods();
-        for (Method md : methods) {
-            TestStep annotation = md.getDeclaredAnnotation(TestStep.class);
-            if (annotation != null && annotation.name().equals(name)) {
-                method = md;
-                break;
-            }
-        }
+        Method method = TestObjectRegistry.getTestStep(testObjectClass, name);
         if (Objects.isNull(method)) {
             throw new ExceptionBase(ExceptionErrorKeys.METHOD_NOT_FOUND, name, testObjectClass.getName());
         } else {
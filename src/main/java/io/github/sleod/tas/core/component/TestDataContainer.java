@@ -1,6 +1,5 @@
 package io.github.sleod.tas.core.component;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,6 +12,7 @@ import io.github.sleod.tas.common.utils.DBConnector;
 import io.github.sleod.tas.common.utils.StringTextUtils;
 import io.github.sleod.tas.configuration.PropertyResolver;
 import io.github.sleod.tas.core.json.ObjectMapperSingleton;
+import io.github.sleod.tas.core.json.deserialization.JSONContainerFactory;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
 import io.github.sleod.tas.exception.TestDataEmptyException;
@@ -30,7 +30,6 @@ public class TestDataContainer {
     private List<Map<String, Object>> dataContent;
     private boolean repeat = false;
     private static JsonNode globalTestData;
-    private static final Map<String, Object> tempData = new LinkedHashMap<>();
     private final Map<String, Object> pageObjects = new LinkedHashMap<>();
     private boolean additionalData = false;
     private final static ObjectMapper mapper = ObjectMapperSingleton.mapper();
@@ -62,23 +61,23 @@ public class TestDataContainer {
     }
 
     public static Object getTempData(String key) {
-        return tempData.get(key);
+        return ExecutionContext.current().getTempData().get(key);
     }
 
     public static String getTempStringData(String key) {
-        return String.valueOf(tempData.get(key));
+        return String.valueOf(getTempData(key));
     }
 
     public static void setTempData(String key, Object object) {
-        tempData.put(key, object);
+        ExecutionContext.current().getTempData().put(key, object);
     }
 
     public static void clearTempData() {
-        tempData.clear();
+        ExecutionContext.current().getTempData().clear();
     }
 
     public static void removeTempData(String key) {
-        tempData.remove(key);
+        ExecutionContext.current().getTempData().remove(key);
     }
 
     public List<Map<String, Object>> getDataContent() {
@@ -198,6 +197,12 @@ public class TestDataContainer {
     }
 
     private void loadTestData(String testDataRef) {
+        String filePath = findTestDataFile(testDataRef);
+        info("Load test data file: " + filePath);
+        loadWithFile(filePath);
+    }
+
+    private static String findTestDataFile(String testDataRef) {
         String[] token = testDataRef.split(":");
         if ("File".equals(token[0])) {
             String filePath;
@@ -205,21 +210,49 @@ public class TestDataContainer {
                 filePath = FileLocator.findResource(token[1]).toString();
             } else {
                 String testDataLocation = FileLocator.findResource(PropertyResolver.getTestDataLocation()).toString();
-                List<Path> filePaths = FileLocator.listRegularFilesRecursiveMatchedToName(testDataLocation, 5, token[1]);
+                List<Path> filePaths = FileLocator.findIndexedFilesMatchedToName(testDataLocation, 5, token[1]);
                 if (filePaths.size() > 1) {
                     testDataLocation = FileLocator.findResource(PropertyResolver.getTestDataFolder()).toString();
-                    filePath = FileLocator.findExactFile(testDataLocation, 5, token[1]).toString();
+                    filePath = FileLocator.findIndexedExactFile(testDataLocation, 5, token[1]).toString();
                 } else {
                     filePath = filePaths.getFirst().toString();
                 }
             }
-            info("Load test data file: " + filePath);
-            loadWithFile(filePath);
+            return filePath;
         } else {
             throw new ExceptionBase(ExceptionErrorKeys.TEST_DATA_REFERENCE_NO_MATCH, testDataRef);
         }
     }
 
+    /**
+     * read only column seriesNumber of csv test data, to classify test cases without loading test data
+     *
+     * @param testDataRef test data reference
+     * @return series numbers of data rows, null for rows without series number. Empty if test data is not repeated,
+     * e.g. json, null if test data is sql and has to be loaded.
+     */
+    static List<String> readSeriesNumbers(String testDataRef) {
+        String filePath = findTestDataFile(testDataRef);
+        String fileName = filePath.toLowerCase();
+        if (fileName.endsWith("." + FileFormat.SQL.value())) {
+            return null;
+        }
+        List<String> seriesNumbers = new ArrayList<>();
+        if (!fileName.endsWith("." + FileFormat.CSV.value())) {
+            return seriesNumbers;
+        }
+        List<String> lines = FileOperation.readFileToStringList(filePath);
+        if (lines.size() <= 2) {
+            return seriesNumbers;
+        }
+        int column = Arrays.asList(lines.getFirst().split(";")).indexOf("seriesNumber");
+        for (int rowNumber : dataRowNumbers(lines)) {
+            String[] values = lines.get(rowNumber).split(";");
+            seriesNumbers.add(column >= 0 && column < values.length ? values[column] : null);
+        }
+        return seriesNumbers;
+    }
+
     private void loadWithFile(String testDataRef) {
         Pattern pattern = Pattern.compile("\\.(\\w+)$");
         Matcher matcher = pattern.matcher(testDataRef);
@@ -239,12 +272,7 @@ public class TestDataContainer {
 
     public static void loadGlobalTestData(Path path) {
         info("Load Global Test Data: " + path);
-        String content = FileOperation.readFileToLinedString(path.toString());
-        try {
-            globalTestData = mapper.readTree(content);
-        } catch (JsonProcessingException ex) {
-            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, path);
-        }
+        globalTestData = JSONContainerFactory.readJsonTree(path);
     }
 
     /**
@@ -267,9 +295,29 @@ public class TestDataContainer {
 
     private void parseCSVNonComment(List<String> lines) {
         String[] columns = lines.get(0).split(";");
+        for (int rowNumber : dataRowNumbers(lines)) {
+            Map<String, Object> rowContent = new HashMap<>(columns.length);
+            Object[] values = lines.get(rowNumber).split(";");
+            if (values.length != columns.length) {
+                throw new ExceptionBase(ExceptionErrorKeys.COLUMN_AND_CSV_HEADER_ARE_NOT_IDENTICAL, rowNumber);
+            }
+            for (int i = 0; i < columns.length; i++) {
+                rowContent.put(columns[i], values[i]);
+            }
+            dataContent.add(rowContent);
+        }
+    }
+
+    /**
+     * get numbers of csv lines with data, without header and comments
+     *
+     * @param lines lines of csv incl. header
+     * @return line numbers of data rows
+     */
+    private static List<Integer> dataRowNumbers(List<String> lines) {
+        List<Integer> rowNumbers = new ArrayList<>();
         boolean commentBlockClosed = true;
         for (int rowNumber = 1; rowNumber < lines.size(); rowNumber++) {
-            Map<String, Object> rowContent = new HashMap<>(columns.length);
             String line = lines.get(rowNumber);
             if (line.startsWith("//") || line.startsWith("#")) {
                 continue;
@@ -281,16 +329,10 @@ public class TestDataContainer {
                 continue;
             }
             if (commentBlockClosed) {
-                Object[] values = line.split(";");
-                if (values.length != columns.length) {
-                    throw new ExceptionBase(ExceptionErrorKeys.COLUMN_AND_CSV_HEADER_ARE_NOT_IDENTICAL, rowNumber);
-                }
-                for (int i = 0; i < columns.length; i++) {
-                    rowContent.put(columns[i], values[i]);
-                }
-                dataContent.add(rowContent);
+                rowNumbers.add(rowNumber);
             }
         }
+        return rowNumbers;
     }
 
     private void loadDBContent(String testDataRef) {
@@ -305,27 +347,21 @@ public class TestDataContainer {
     }
 
     private void loadJSONContent(String testDataRef) {
-        String content = FileOperation.readFileToLinedString(testDataRef);
-        ObjectNode data;
-        try {
-            data = (ObjectNode) mapper.readTree(content);
-            Iterator<Map.Entry<String, JsonNode>> fields = data.fields();
-            if (additionalData && jsonData != null) {
-                ObjectNode workingNode = jsonData.deepCopy();
-                while (fields.hasNext()) {
-                    Map.Entry<String, JsonNode> field = fields.next();
-                    String key = field.getKey();
-                    JsonNode fieldValue = field.getValue();
-                    if (!workingNode.has(field.getKey())) {
-                        workingNode.set(key, fieldValue);
-                    }
+        ObjectNode data = (ObjectNode) JSONContainerFactory.readJsonTree(Path.of(testDataRef));
+        Iterator<Map.Entry<String, JsonNode>> fields = data.fields();
+        if (additionalData && jsonData != null) {
+            ObjectNode workingNode = jsonData.deepCopy();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String key = field.getKey();
+                JsonNode fieldValue = field.getValue();
+                if (!workingNode.has(field.getKey())) {
+                    workingNode.set(key, fieldValue);
                 }
-                jsonData = workingNode;
-            } else {
-                jsonData = data;
             }
-        } catch (JsonProcessingException ex) {
-            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, testDataRef);
+            jsonData = workingNode;
+        } else {
+            jsonData = data;
         }
     }
 }
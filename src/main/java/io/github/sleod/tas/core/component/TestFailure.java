@@ -5,12 +5,28 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 public class TestFailure {
 
     private final Throwable exception;
+    //texts of failure rehydrated from spilled results, without exception
+    private final String message;
+    private final String type;
+    private final String trace;
 
     public TestFailure(Throwable exception) {
         this.exception = exception;
+        this.message = null;
+        this.type = null;
+        this.trace = null;
+    }
+
+    public TestFailure(String message, String type, String trace) {
+        this.exception = null;
+        this.message = message;
+        this.type = type;
+        this.trace = trace;
     }
 
     public String getMessage() {
+        if (message != null)
+            return message;
         if (exception != null && exception.getMessage() != null)
             return exception.getMessage();
         else return "Test Failure with unknown exception!!";
@@ -20,7 +36,18 @@ public class TestFailure {
         return exception;
     }
 
+    /**
+     * @return class name of exception
+     */
+    public String getType() {
+        if (type != null)
+            return type;
+        return exception != null ? exception.getClass().getName() : "";
+    }
+
     public String getTrace() {
+        if (trace != null)
+            return trace;
         return ExceptionUtils.getStackTrace(exception);
     }
 }
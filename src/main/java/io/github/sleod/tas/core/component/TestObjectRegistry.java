@@ -0,0 +1,174 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.utils.AnnotationReflector;
+import io.github.sleod.tas.core.annotations.TestObject;
+import io.github.sleod.tas.core.annotations.TestStep;
+import io.github.sleod.tas.core.annotations.processor.TestObjectIndexProcessor;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.debug;
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+
+/**
+ * JVM wide registry of test object classes and their test step methods.
+ * <p>
+ * Classes annotated with {@link TestObject} are collected once per test automation package, either from the
+ * index generated by {@link TestObjectIndexProcessor} at build time or with a single classpath scan.
+ * Methods annotated with {@link TestStep} are collected once per test object class.
+ */
+public final class TestObjectRegistry {
+
+    private static final Map<String, Map<String, Class<?>>> testObjects = new ConcurrentHashMap<>();
+    private static final Set<String> indexedPackages = ConcurrentHashMap.newKeySet();
+    private static final Map<Class<?>, Map<String, Method>> testSteps = new ConcurrentHashMap<>();
+
+    private TestObjectRegistry() {
+    }
+
+    /**
+     * get all test object classes in package mapped with annotated name
+     *
+     * @param inPackage test automation package
+     * @return unmodifiable map of name to class
+     */
+    public static Map<String, Class<?>> getTestObjects(String inPackage) {
+        return testObjects.computeIfAbsent(inPackage, TestObjectRegistry::buildTestObjects);
+    }
+
+    /**
+     * get test object class with annotated name.
+     * In case the name is not in the build time index, e.g. index is outdated after incremental build,
+     * the registry of the package will be rebuilt once with classpath scan.
+     *
+     * @param inPackage test automation package
+     * @param name      name defined in {@link TestObject}
+     * @return class of test object or null if not found
+     */
+    public static Class<?> getTestObject(String inPackage, String name) {
+        Class<?> clazz = getTestObjects(inPackage).get(name);
+        if (Objects.isNull(clazz) && indexedPackages.remove(inPackage)) {
+            info("Test Object '" + name + "' is not in build time index, rescan package: " + inPackage);
+            testObjects.put(inPackage, toRegistry(inPackage, AnnotationReflector.getAnnotatedClass(inPackage, TestObject.class)));
+            clazz = getTestObjects(inPackage).get(name);
+        }
+        return clazz;
+    }
+
+    /**
+     * get public method of test object class with annotated step name
+     *
+     * @param testObjectClass class of test object
+     * @param stepName        name defined in {@link TestStep}
+     * @return method or null if not found
+     */
+    public static Method getTestStep(Class<?> testObjectClass, String stepName) {
+        return getTestSteps(testObjectClass).get(stepName);
+    }
+
+    /**
+     * get all public methods of test object class mapped with annotated step name
+     *
+     * @param testObjectClass class of test object
+     * @return unmodifiable map of step name to method
+     */
+    public static Map<String, Method> getTestSteps(Class<?> testObjectClass) {
+        return testSteps.computeIfAbsent(testObjectClass, TestObjectRegistry::buildTestSteps);
+    }
+
+    /**
+     * clear registry, so that it will be rebuilt on next access
+     */
+    public static void reset() {
+        testObjects.clear();
+        indexedPackages.clear();
+        testSteps.clear();
+    }
+
+    /**
+     * build registry of package with build time index or classpath scan as fallback
+     *
+     * @param inPackage test automation package
+     * @return map of name to class
+     */
+    private static Map<String, Class<?>> buildTestObjects(String inPackage) {
+        Set<Class<?>> classes = loadFromIndex(inPackage);
+        if (classes.isEmpty()) {
+            classes = AnnotationReflector.getAnnotatedClass(inPackage, TestObject.class);
+        } else {
+            indexedPackages.add(inPackage);
+        }
+        return toRegistry(inPackage, classes);
+    }
+
+    private static Map<String, Class<?>> toRegistry(String inPackage, Set<Class<?>> classes) {
+        Map<String, Class<?>> registry = new LinkedHashMap<>(classes.size());
+        for (Class<?> clazz : classes) {
+            TestObject annotation = clazz.getAnnotation(TestObject.class);
+            if (Objects.isNull(annotation) || annotation.name().isEmpty()) {//to avoid class inherit with annotation but not specified in own class
+                throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE,
+                        clazz + " has inherited Annotation but not specified with own name. And this class will not be initialized!!");
+            }
+            registry.put(annotation.name(), clazz);
+        }
+        info("Test Object Registry of " + inPackage + " contains: " + registry.size() + " Test Objects.");
+        return Collections.unmodifiableMap(registry);
+    }
+
+    /**
+     * load test object classes of package listed in build time index files
+     *
+     * @param inPackage test automation package
+     * @return set of classes, empty if no index available
+     */
+    private static Set<Class<?>> loadFromIndex(String inPackage) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        ClassLoader classLoader = Objects.requireNonNullElse(Thread.currentThread().getContextClassLoader(), TestObjectRegistry.class.getClassLoader());
+        try {
+            Enumeration<URL> indexFiles = classLoader.getResources(TestObjectIndexProcessor.INDEX_LOCATION);
+            while (indexFiles.hasMoreElements()) {
+                URL indexFile = indexFiles.nextElement();
+                debug("Load Test Object Index: " + indexFile);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexFile.openStream(), StandardCharsets.UTF_8))) {
+                    String className;
+                    while ((className = reader.readLine()) != null) {
+                        className = className.trim();
+                        if (className.startsWith(inPackage + ".")) {
+                            classes.add(Class.forName(className, false, classLoader));
+                        }
+                    }
+                }
+            }
+        } catch (IOException | ClassNotFoundException | LinkageError ex) {
+            debug("Test Object Index can not be used, fallback to classpath scan: " + ex.getMessage());
+            classes.clear();
+        }
+        return classes;
+    }
+
+    /**
+     * collect public methods with annotated step name, first declaration wins
+     *
+     * @param testObjectClass class of test object
+     * @return map of step name to method
+     */
+    private static Map<String, Method> buildTestSteps(Class<?> testObjectClass) {
+        Map<String, Method> steps = new HashMap<>();
+        for (Method method : testObjectClass.getMethods()) {
+            TestStep annotation = method.getDeclaredAnnotation(TestStep.class);
+            if (annotation != null) {
+                steps.putIfAbsent(annotation.name(), method);
+            }
+        }
+        return Collections.unmodifiableMap(steps);
+    }
+}
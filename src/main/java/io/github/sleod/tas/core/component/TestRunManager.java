@@ -23,6 +23,8 @@ import org.openqa.selenium.WebDriver;
 import java.io.File;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
 
 import static io.github.sleod.tas.common.logging.SystemLogger.*;
 import static io.github.sleod.tas.common.utils.ObjectWriterReader.WriteObject;
@@ -34,45 +36,30 @@ import static io.github.sleod.tas.core.json.ObjectMapperSingleton.mapper;
 public class TestRunManager {
 
     private static JSONRunnerConfig jiraExecutionConfig = null;
-    private static final Map<String, PerformableTestCases> performerMap = new HashMap<>();
 
     public static PerformableTestCases getPerformer() {
-        return performerMap.get(Thread.currentThread().getName());
+        return ExecutionContext.current().getPerformer();
     }
 
     public static void setPerformer(PerformableTestCases performer) {
-        performerMap.put(Thread.currentThread().getName(), performer);
+        ExecutionContext.current().setPerformer(performer);
     }
 
     /**
-     * filter test case with meta tags
+     * filter test case with meta tags, see {@link TagFilter} for notation of filters
      *
      * @param metaFilters  defined meta tags
      * @param jsonTestCase test case
      * @return if to be added
      */
     public static boolean filterTestCase(List<String> metaFilters, JSONTestCase jsonTestCase) {
-        if (metaFilters == null || metaFilters.isEmpty()) {
+        TagFilter tagFilter = TagFilter.compile(metaFilters);
+        if (tagFilter.isAcceptAll()) {
             return true;
         }
-
-        //get meta info in test case
-        List<String> testCaseMetas = jsonTestCase.getMeta();
-        boolean toBeAdd = false;
-        //replace
-        for (String metaTag : testCaseMetas) {
-            String exclude1 = metaTag.replace("@", "-");
-            String exclude2 = metaTag.replace("@", "-@");
-            String include1 = metaTag.replace("@", "+");
-            String include2 = metaTag.replace("@", "+@");
-            if (metaFilters.contains(exclude1) || metaFilters.contains(exclude2)) {
-                toBeAdd = false;
-                break;
-            }
-            if (metaFilters.contains(include1) || metaFilters.contains(include2)) {
-                toBeAdd = true;
-                info("Pickup Test Case: " + jsonTestCase.getName());
-            }
+        boolean toBeAdd = tagFilter.test(jsonTestCase.getMeta());
+        if (toBeAdd) {
+            info("Pickup Test Case: " + jsonTestCase.getName());
         }
         return toBeAdd;
     }
@@ -85,10 +72,13 @@ public class TestRunManager {
      * @return file paths of test cases
      */
     public static List<String> findAllFilePathOfTestCaseFile(List<String> includeFilePatterns, List<String> excludeFilePatterns) {
+        long start = System.nanoTime();
         List<String> paths = FileLocator.findPaths(FileLocator.findResource(getTestCaseLocation()),
                 includeFilePatterns,
                 excludeFilePatterns,
-                getTestCaseLocation());
+                getTestCaseLocation(),
+                PropertyResolver.getTestCaseLoadMaxThreads() > 1);
+        info("Test case discovery: " + paths.size() + " files found in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms.");
         debug("Paths found: " + Arrays.toString(paths.toArray()));
         return paths;
     }
@@ -103,6 +93,72 @@ public class TestRunManager {
         if (filePaths.isEmpty()) {
             throw new ExceptionBase(ExceptionErrorKeys.TEST_CASE_NOT_FOUND, PropertyResolver.getTestCaseLocation());
         }
+        List<String> selectedIds = getSelectedIds();
+        logMetaFilters(metaFilters);
+        return TestSharding.selectShard(getTestCaseObjectList(filePaths, metaFilters, selectedIds));
+    }
+
+    /**
+     * init test cases lazily with file paths of json filtered with meta notation.
+     * Only meta tags and series numbers, also of csv test data, are read from the files, test case objects are built just
+     * before execution. Files with sql test data are built once to classify their test cases.
+     *
+     * @param filePaths   file paths
+     * @param metaFilters meta filters
+     * @return lazy test cases
+     */
+    public static LazyTestCases initLazyTestCases(List<String> filePaths, List<String> metaFilters) {
+        if (filePaths.isEmpty()) {
+            throw new ExceptionBase(ExceptionErrorKeys.TEST_CASE_NOT_FOUND, PropertyResolver.getTestCaseLocation());
+        }
+        List<String> selectedIds = getSelectedIds();
+        logMetaFilters(metaFilters);
+        long start = System.nanoTime();
+        TagFilter tagFilter = TagFilter.compile(metaFilters);
+        List<LazyTestCases.Source> sources = new ArrayList<>();
+        int classified = 0;
+        for (String filePath : filePaths) {
+            Map<String, JsonNode> fields = JSONContainerFactory.readTestCaseFields(filePath, "meta", "seriesNumber", "testDataRef");
+            if (tagFilter.isAcceptAll() || tagFilter.test(JSONContainerFactory.toTextList(fields.get("meta")))) {
+                JsonNode testDataRef = fields.get("testDataRef");
+                JsonNode seriesNumberNode = fields.get("seriesNumber");
+                String seriesNumber = seriesNumberNode == null || seriesNumberNode.isNull() ? null : seriesNumberNode.asText();
+                List<String> rowSeriesNumbers = testDataRef != null && isValid(testDataRef.asText())
+                        ? TestDataContainer.readSeriesNumbers(testDataRef.asText()) : List.of();
+                if (rowSeriesNumbers == null) {
+                    //series numbers of variants are defined by sql test data, which is only known after loading
+                    sources.add(LazyTestCases.Source.classify(filePath, buildTestCases(filePath, selectedIds)));
+                    classified++;
+                } else {
+                    sources.add(LazyTestCases.Source.classify(filePath, seriesNumber, rowSeriesNumbers));
+                }
+            }
+        }
+        info("Test case pre-read: " + filePaths.size() + " files to " + sources.size() + " selected files, " + classified
+             + " built to classify with test data in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms.");
+        if (sources.isEmpty()) {
+            throw new ExceptionBase(ExceptionErrorKeys.TEST_CASE_NOT_FOUND, "With Meta Filter: " + Strings.join(",", metaFilters));
+        }
+        return new LazyTestCases(sources, selectedIds, TestSharding.selectShardUnits(sources));
+    }
+
+    /**
+     * build test cases of one test case file, which was already selected with meta filters
+     *
+     * @param filePath    file path of test case
+     * @param selectedIds selected test case ids
+     * @return list of test case objects, empty if not selected
+     */
+    static List<TestCaseObject> buildTestCases(String filePath, List<String> selectedIds) {
+        return loadTestCaseFile(filePath, TagFilter.compile(null), selectedIds, new LoadingTimes());
+    }
+
+    /**
+     * get selected test case ids in execution config
+     *
+     * @return list of selected ids, null if all test cases are selected
+     */
+    private static List<String> getSelectedIds() {
         List<String> selectedIds;
         if (PropertyResolver.isJIRASyncEnabled()) {
             Map<String, String> executionKeys = jiraExecutionConfig.getTestExecutionIdMap();
@@ -121,6 +177,10 @@ public class TestRunManager {
         } else {
             selectedIds = null;
         }
+        return selectedIds;
+    }
+
+    private static void logMetaFilters(List<String> metaFilters) {
         if (!metaFilters.isEmpty()) {
             info("Filters: " + Arrays.toString(metaFilters.toArray()));
         } else {
@@ -129,30 +189,22 @@ public class TestRunManager {
         if (metaFilters.contains("")) {
             info("meta filters contains empty value!");
         }
-        return getTestCaseObjectList(filePaths, metaFilters, selectedIds);
     }
 
     /**
      * generate, consolidate test cases with filter and conditions
      */
     private static List<TestCaseObject> getTestCaseObjectList(List<String> filePaths, List<String> metaFilters, List<String> selectedIds) {
+        long start = System.nanoTime();
+        LoadingTimes loadingTimes = new LoadingTimes();
         List<TestCaseObject> testCaseObjects = new LinkedList<>();
-        for (String filePath : filePaths) {//build test cases with tas files
-            JSONTestCase jsonTestCase = JSONContainerFactory.buildJSONTestCaseObject(filePath);
-            //filter with meta tags
-            if (filterTestCase(metaFilters, jsonTestCase)) {
-                TestCaseObject testCaseObject = new TestCaseObject(jsonTestCase);
-                testCaseObject.setFilePath(filePath);
-                //normalize test case in case test data has multi lines (csv, sql)
-                for (TestCaseObject n_testCaseObject : normalizeRepeatTestCases(testCaseObject)) {
-                    if (isSelected(n_testCaseObject, selectedIds)) {
-                        testCaseObjects.add(n_testCaseObject);
-                    } else {
-                        debug("Test Case with id: " + n_testCaseObject.getTestCaseId() + " was not selected in execution config.");
-                    }
-                }
-            }
+        //compile meta filters once for all files
+        TagFilter tagFilter = TagFilter.compile(metaFilters);
+        //results are merged in order of file paths, independent of loading threads
+        for (List<TestCaseObject> loaded : loadTestCaseFiles(filePaths, tagFilter, selectedIds, loadingTimes)) {
+            testCaseObjects.addAll(loaded);
         }
+        loadingTimes.report(filePaths.size(), testCaseObjects.size(), System.nanoTime() - start);
         if (testCaseObjects.isEmpty()) {
             throw new ExceptionBase(ExceptionErrorKeys.TEST_CASE_NOT_FOUND, "With Meta Filter: " + Strings.join(",", metaFilters));
         }
@@ -160,6 +212,99 @@ public class TestRunManager {
         return testCaseObjects;
     }
 
+    /**
+     * load test case files with bounded thread pool, sequential in case only one thread is allowed.
+     * Properties of current thread and a fork of its execution context with the performer are handed over to the
+     * loading threads, which are needed for filters of CSV test data.
+     *
+     * @param filePaths    file paths of test cases
+     * @param tagFilter    compiled meta filters
+     * @param selectedIds  selected test case ids
+     * @param loadingTimes collector of loading times
+     * @return list of loaded test cases per file, in order of file paths
+     */
+    private static List<List<TestCaseObject>> loadTestCaseFiles(List<String> filePaths, TagFilter tagFilter, List<String> selectedIds, LoadingTimes loadingTimes) {
+        int threads = Math.min(PropertyResolver.getTestCaseLoadMaxThreads(), filePaths.size());
+        if (threads <= 1) {
+            return filePaths.stream().map(filePath -> loadTestCaseFile(filePath, tagFilter, selectedIds, loadingTimes)).toList();
+        }
+        info("Load " + filePaths.size() + " test case files with " + threads + " threads.");
+        //init shared mapper before it is used by loading threads
+        mapper();
+        Properties properties = PropertyResolver.copyCurrentProperties();
+        ExecutionContext context = ExecutionContext.current();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("tas-loader-", 1).daemon().factory())) {
+            List<Future<List<TestCaseObject>>> futures = new ArrayList<>(filePaths.size());
+            for (String filePath : filePaths) {
+                futures.add(executor.submit(() -> {
+                    PropertyResolver.setCurrentProperties(properties);
+                    ExecutionContext.bind(context.fork());
+                    try {
+                        return loadTestCaseFile(filePath, tagFilter, selectedIds, loadingTimes);
+                    } finally {
+                        ExecutionContext.unbind();
+                    }
+                }));
+            }
+            List<List<TestCaseObject>> results = new ArrayList<>(futures.size());
+            try {
+                for (Future<List<TestCaseObject>> future : futures) {
+                    results.add(future.get());
+                }
+            } catch (ExecutionException ex) {
+                executor.shutdownNow();
+                if (ex.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex.getCause(), "Load test case files failed!");
+            } catch (InterruptedException ex) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Load test case files interrupted!");
+            }
+            return results;
+        }
+    }
+
+    /**
+     * build test cases with tas file, filtered with meta tags and selected ids.
+     * Meta tags are pre-read by streaming, so that excluded test cases are not parsed completely.
+     *
+     * @param filePath     file path of test case
+     * @param tagFilter    compiled meta filters
+     * @param selectedIds  selected test case ids
+     * @param loadingTimes collector of loading times
+     * @return list of test case objects, empty if not selected
+     */
+    private static List<TestCaseObject> loadTestCaseFile(String filePath, TagFilter tagFilter, List<String> selectedIds, LoadingTimes loadingTimes) {
+        long start = System.nanoTime();
+        //filter with meta tags
+        if (!tagFilter.isAcceptAll() && !tagFilter.test(JSONContainerFactory.readTestCaseMeta(filePath))) {
+            loadingTimes.filter.add(System.nanoTime() - start);
+            return Collections.emptyList();
+        }
+        long filtered = System.nanoTime();
+        loadingTimes.filter.add(filtered - start);
+        JSONTestCase jsonTestCase = JSONContainerFactory.buildJSONTestCaseObject(filePath);
+        long parsed = System.nanoTime();
+        loadingTimes.parse.add(parsed - filtered);
+        if (!tagFilter.isAcceptAll()) {
+            info("Pickup Test Case: " + jsonTestCase.getName());
+        }
+        List<TestCaseObject> testCaseObjects = new ArrayList<>();
+        TestCaseObject testCaseObject = new TestCaseObject(jsonTestCase);
+        testCaseObject.setFilePath(filePath);
+        //normalize test case in case test data has multi lines (csv, sql)
+        for (TestCaseObject n_testCaseObject : normalizeRepeatTestCases(testCaseObject)) {
+            if (isSelected(n_testCaseObject, selectedIds)) {
+                testCaseObjects.add(n_testCaseObject);
+            } else {
+                debug("Test Case with id: " + n_testCaseObject.getTestCaseId() + " was not selected in execution config.");
+            }
+        }
+        loadingTimes.build.add(System.nanoTime() - parsed);
+        return testCaseObjects;
+    }
 
     /**
      * Checks if multiple testcases have the same name or id.
@@ -172,15 +317,27 @@ public class TestRunManager {
         Set<String> testCaseIds = new HashSet<>();
 
         for (TestCaseObject testCaseObject : testCaseObjects) {
-            if (!testCaseNames.add(testCaseObject.getName())) {
-                throw new ExceptionBase(ExceptionErrorKeys.DEFINED_MULTIPLE_FILES, testCaseObject.getName());
-            }
-            //If ID is set, check if duplicate in case feedback enabled
-            if ((PropertyResolver.isTFSSyncEnabled() || PropertyResolver.isJIRASyncEnabled())
-                    && !testCaseObject.getTestCaseId().isEmpty() && !testCaseObject.getTestCaseId().equals("-")) {
-                if (!testCaseIds.add(testCaseObject.getTestCaseId())) {
-                    throw new ExceptionBase(ExceptionErrorKeys.DEFINED_MULTIPLE_TESTCASES, testCaseObject.getTestCaseId());
-                }
+            checkDuplicateNaming(testCaseObject, testCaseNames, testCaseIds);
+        }
+    }
+
+    /**
+     * Checks if test case has the same name or id as test cases checked before.
+     *
+     * @param testCaseObject test case object
+     * @param testCaseNames  names of test cases checked before
+     * @param testCaseIds    ids of test cases checked before
+     * @throws ExceptionBase if duplicate found.
+     */
+    static void checkDuplicateNaming(TestCaseObject testCaseObject, Set<String> testCaseNames, Set<String> testCaseIds) {
+        if (!testCaseNames.add(testCaseObject.getName())) {
+            throw new ExceptionBase(ExceptionErrorKeys.DEFINED_MULTIPLE_FILES, testCaseObject.getName());
+        }
+        //If ID is set, check if duplicate in case feedback enabled
+        if ((PropertyResolver.isTFSSyncEnabled() || PropertyResolver.isJIRASyncEnabled())
+                && !testCaseObject.getTestCaseId().isEmpty() && !testCaseObject.getTestCaseId().equals("-")) {
+            if (!testCaseIds.add(testCaseObject.getTestCaseId())) {
+                throw new ExceptionBase(ExceptionErrorKeys.DEFINED_MULTIPLE_TESTCASES, testCaseObject.getTestCaseId());
             }
         }
     }
@@ -196,6 +353,46 @@ public class TestRunManager {
         return new JIRARestClient().getTestsInExecution(executionKey, query_option);
     }
 
+    /**
+     * check if test cases of type can be executed in virtual threads.
+     * Test cases without local driver process, like rest and app, are mostly blocked on I/O.
+     *
+     * @param type test type
+     * @return true for rest and app
+     */
+    public static boolean isVirtualThreadCapable(TestType type) {
+        return switch (type) {
+            case REST, APP -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * get key of series chain, which is the first context of series number like "Order" of "Order.1" or "Order.Pay.2".
+     * Series numbers without context belong to one common chain.
+     *
+     * @param seriesNumber series number
+     * @return key of series chain
+     */
+    public static String getSeriesKey(String seriesNumber) {
+        int index = seriesNumber.indexOf('.');
+        return index < 0 ? "" : seriesNumber.substring(0, index);
+    }
+
+    /**
+     * group series test cases into chains, each chain in order of series number
+     *
+     * @param testCaseObjects test cases with series number
+     * @return chains of test cases in order of series key
+     */
+    public static List<List<TestCaseObject>> groupSeriesChains(List<TestCaseObject> testCaseObjects) {
+        Map<String, List<TestCaseObject>> chains = new TreeMap<>();
+        testCaseObjects.stream().sorted(Comparator.comparing(TestCaseObject::getSeriesNumber))
+                .forEach(testCaseObject -> chains.computeIfAbsent(getSeriesKey(testCaseObject.getSeriesNumber()), key -> new ArrayList<>())
+                        .add(testCaseObject));
+        return new ArrayList<>(chains.values());
+    }
+
     /**
      * load driver while init test case object
      *
@@ -553,8 +750,8 @@ public class TestRunManager {
     public static void loadGlobalTestData() {
         if (FileLocator.isResourceFileExists(PropertyResolver.getTestDataLocation())) {
             Path path = FileLocator.findResource(PropertyResolver.getTestDataLocation());
-            List<Path> paths1 = FileLocator.listRegularFilesRecursiveMatchedToName(path.toString(), 5, "testdata-global");
-            List<Path> paths2 = FileLocator.listRegularFilesRecursiveMatchedToName(path.toString(), 5, "testData-global");
+            List<Path> paths1 = FileLocator.findIndexedFilesMatchedToName(path.toString(), 5, "testdata-global");
+            List<Path> paths2 = FileLocator.findIndexedFilesMatchedToName(path.toString(), 5, "testData-global");
             List<Path> globalTestDataPaths = new ArrayList<>(paths1);
             globalTestDataPaths.addAll(paths2);
             if (globalTestDataPaths.size() > 1) {
@@ -567,4 +764,20 @@ public class TestRunManager {
         }
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Collector of startup times while loading test case files, summed up over all loading threads
+     */
+    private static final class LoadingTimes {
+        private final LongAdder parse = new LongAdder();
+        private final LongAdder filter = new LongAdder();
+        private final LongAdder build = new LongAdder();
+
+        private void report(int fileCount, int testCaseCount, long wallNanos) {
+            info("Test case loading: " + fileCount + " files to " + testCaseCount + " test cases in "
+                 + TimeUnit.NANOSECONDS.toMillis(wallNanos) + " ms (parse: " + TimeUnit.NANOSECONDS.toMillis(parse.sum())
+                 + " ms, filter: " + TimeUnit.NANOSECONDS.toMillis(filter.sum())
+                 + " ms, build: " + TimeUnit.NANOSECONDS.toMillis(build.sum()) + " ms, summed over threads).");
+        }
+    }
+}
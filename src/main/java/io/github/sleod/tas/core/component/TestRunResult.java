@@ -1,10 +1,12 @@
 package io.github.sleod.tas.core.component;
 
 import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.common.logging.TestCaseLog;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.io.File;
+import java.lang.ref.SoftReference;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -12,23 +14,21 @@ import java.util.List;
 import java.util.Map;
 
 import static io.github.sleod.tas.common.logging.SystemLogger.getSimpleCustomInfo;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
 
 public class TestRunResult {
     @Setter
     @Getter
     private TestStatus status = TestStatus.NO_RUN;
-    @Getter
     private final List<TestStepResult> stepResults = new LinkedList<>();
     @Setter
     @Getter
     private String name;
     @Setter
-    @Getter
     private List<File> attachments = new LinkedList<>();
     private long startTime;
     private long stopTime;
     @Setter
-    @Getter
     private TestFailure testFailure;
     @Setter
     @Getter
@@ -36,6 +36,9 @@ public class TestRunResult {
     @Setter
     @Getter
     private String logFilePath;
+    @Setter
+    @Getter
+    private TestCaseLog testCaseLog;
     @Getter
     private String begin;
     @Getter
@@ -49,6 +52,88 @@ public class TestRunResult {
     @Getter
     @Setter
     private Map<String, Object> parameters = Collections.emptyMap();
+    //summary on disk after spill, results are rehydrated from it on demand
+    @Getter
+    private volatile String summaryFilePath;
+    //results read from summary, softly kept so that reports do not bring all spilled results back on heap
+    private volatile SoftReference<ResultSpill.Rehydrated> rehydrated;
+
+    /**
+     * get step results, rehydrated from summary on disk after spill
+     *
+     * @return step results
+     */
+    public List<TestStepResult> getStepResults() {
+        return summaryFilePath == null ? stepResults : rehydrate().stepResults();
+    }
+
+    /**
+     * @return attachments of test run, rehydrated from summary on disk after spill
+     */
+    public List<File> getAttachments() {
+        return summaryFilePath == null ? attachments : rehydrate().attachments();
+    }
+
+    /**
+     * @return failure of test run, rehydrated from summary on disk after spill
+     */
+    public TestFailure getTestFailure() {
+        return summaryFilePath == null ? testFailure : rehydrate().failure();
+    }
+
+    /**
+     * read results from summary, following calls return same objects until they are reclaimed by garbage collector
+     *
+     * @return rehydrated results
+     */
+    private ResultSpill.Rehydrated rehydrate() {
+        ResultSpill.Rehydrated results = cached();
+        if (results == null) {
+            synchronized (this) {
+                results = cached();
+                if (results == null) {
+                    results = ResultSpill.read(summaryFilePath);
+                    rehydrated = new SoftReference<>(results);
+                }
+            }
+        }
+        return results;
+    }
+
+    private ResultSpill.Rehydrated cached() {
+        SoftReference<ResultSpill.Rehydrated> reference = rehydrated;
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * write summary of finished test run to disk and drop step results, failures and attachments from memory, they
+     * are rehydrated from the summary on demand
+     */
+    public void spill() {
+        if (summaryFilePath != null || logFilePath == null) {
+            return;
+        }
+        try {
+            summaryFilePath = ResultSpill.write(this);
+        } catch (Throwable throwable) {
+            warn("Results of " + name + " are kept in memory: " + throwable.getMessage());
+            return;
+        }
+        stepResults.clear();
+        attachments = new LinkedList<>();
+        testFailure = null;
+        testCaseLog = null;
+    }
+
+    /**
+     * close log of test case if still open, e.g. if the test case is aborted before its log is stopped
+     */
+    public void closeTestCaseLog() {
+        TestCaseLog log = testCaseLog;
+        if (log != null) {
+            log.close();
+        }
+    }
 
     /**
      * add test step result to the test run result
@@ -0,0 +1,146 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
+import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
+
+/**
+ * Deterministic assignment of test cases to shards, so that a test run is spread over several runner JVMs.
+ * <p>
+ * Units of assignment are single test cases, incl. each variant of csv or sql test data, and chains of series test
+ * cases, which stay together in one shard. Units are assigned longest first to the shard with least load, ties are
+ * resolved by name, so that all shards compute the same assignment with same test case files. Units have same weight,
+ * unless a history file shared by all shards is configured, then they are weighted with durations of the history. The
+ * digest of the history is logged to compare it over the shards.
+ */
+public final class TestSharding {
+
+    private TestSharding() {
+    }
+
+    /**
+     * @return true if test run is split into more than one shard, sharding is replaced by work queue if enabled
+     */
+    public static boolean isSharded() {
+        return PropertyResolver.getShardTotal() > 1 && !WorkQueue.isEnabled();
+    }
+
+    /**
+     * select test cases of current shard
+     *
+     * @param testCaseObjects all test cases of run
+     * @return test cases of current shard in original order
+     */
+    public static List<TestCaseObject> selectShard(List<TestCaseObject> testCaseObjects) {
+        if (!isSharded()) {
+            return testCaseObjects;
+        }
+        Map<TestCaseObject, Long> durations = Collections.emptyMap();
+        String historyFile = PropertyResolver.getShardHistoryFile();
+        if (isValid(historyFile)) {
+            Path path = Paths.get(historyFile);
+            info("Shard weights with history " + path + ", SHA-256: " + digest(path));
+            durations = HistoryScheduler.predictDurations(testCaseObjects, path);
+        }
+        Map<String, Long> weights = new HashMap<>();
+        for (TestCaseObject testCaseObject : testCaseObjects) {
+            weights.merge(unitKey(testCaseObject), durations.getOrDefault(testCaseObject, 1L), Long::sum);
+        }
+        Set<String> selected = assign(weights);
+        List<TestCaseObject> shard = testCaseObjects.stream().filter(testCaseObject -> selected.contains(unitKey(testCaseObject))).toList();
+        logShard(shard.size(), testCaseObjects.size(), "Test Cases");
+        return shard;
+    }
+
+    /**
+     * select units of current shard in case of lazy loading, which are series chains and files of single test cases.
+     * Each file is weighted equally in its units.
+     *
+     * @param sources all selected test case files
+     * @return units of current shard, null if not sharded
+     */
+    static Set<String> selectShardUnits(List<LazyTestCases.Source> sources) {
+        if (!isSharded()) {
+            return null;
+        }
+        Map<String, Long> weights = new HashMap<>();
+        sources.forEach(source -> source.units().forEach(unit -> weights.merge(unit, 1L, Long::sum)));
+        Set<String> selected = assign(weights);
+        logShard(selected.size(), weights.size(), "Units of Test Case Files");
+        return selected;
+    }
+
+    /**
+     * assign weighted units longest first to shard with least load
+     *
+     * @param weights weight of each unit
+     * @return units of current shard
+     */
+    private static Set<String> assign(Map<String, Long> weights) {
+        int total = PropertyResolver.getShardTotal();
+        int index = PropertyResolver.getShardIndex();
+        if (index < 0 || index >= total) {
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "Shard index " + index + " is out of range of " + total + " shards!");
+        }
+        List<String> units = new ArrayList<>(weights.keySet());
+        units.sort(Comparator.comparing((String unit) -> -weights.get(unit)).thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[total];
+        Set<String> selected = new HashSet<>();
+        for (String unit : units) {
+            int target = 0;
+            for (int i = 1; i < total; i++) {
+                if (loads[i] < loads[target]) {
+                    target = i;
+                }
+            }
+            loads[target] += weights.get(unit);
+            if (target == index) {
+                selected.add(unit);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * key of unit of work, which is the series chain for series test cases
+     *
+     * @param testCaseObject test case object
+     * @return unit key
+     */
+    static String unitKey(TestCaseObject testCaseObject) {
+        return isValid(testCaseObject.getSeriesNumber())
+                ? "series:" + TestRunManager.getSeriesKey(testCaseObject.getSeriesNumber())
+                : "case:" + testCaseObject.getPackageName() + "." + testCaseObject.getName();
+    }
+
+    /**
+     * @param path history file
+     * @return SHA-256 digest of history file, "none" if file can not be read
+     */
+    private static String digest(Path path) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(path)));
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            warn("History file of shards can not be read, units have same weight: " + path);
+            return "none";
+        }
+    }
+
+    private static void logShard(int selected, int all, String unit) {
+        info("Shard " + PropertyResolver.getShardIndex() + " of " + PropertyResolver.getShardTotal() + " executes "
+             + selected + " of " + all + " " + unit + ".");
+    }
+}
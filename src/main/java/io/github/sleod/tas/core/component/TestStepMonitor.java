@@ -7,28 +7,21 @@ import io.github.sleod.tas.exception.ExceptionErrorKeys;
 import org.junit.jupiter.api.Assertions;
 import org.opentest4j.TestAbortedException;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import static io.github.sleod.tas.common.logging.SystemLogger.error;
 import static io.github.sleod.tas.common.logging.SystemLogger.info;
 
 /**
- * TestStep Monitor for each testcase
+ * TestStep Monitor for each testcase, state is kept in {@link ExecutionContext} of current thread
  */
 public class TestStepMonitor {
 
-    private static final Map<String, TestCaseObject> currentTests = new HashMap<>();
-    private static final Map<String, TestCaseStep> currentSteps = new HashMap<>();
-    private static final Map<String, Boolean> isStopMap = new HashMap<>();
-
     /**
      * Check if the current thread is marked to stop execution
      *
      * @return true if the current thread is marked to stop, false otherwise
      */
     public static boolean isStop() {
-        return isStopMap.get(Thread.currentThread().getName());
+        return ExecutionContext.current().isStop();
     }
 
     /**
@@ -37,7 +30,7 @@ public class TestStepMonitor {
      * @param isStop true to mark the current thread to stop, false otherwise
      */
     public static void setIsStop(boolean isStop) {
-        isStopMap.put(Thread.currentThread().getName(), isStop);
+        ExecutionContext.current().setStop(isStop);
     }
 
     /**
@@ -46,7 +39,7 @@ public class TestStepMonitor {
      * @param currentStep the current step to set
      */
     public static void setCurrentStep(TestCaseStep currentStep) {
-        currentSteps.put(Thread.currentThread().getName(), currentStep);
+        ExecutionContext.current().setCurrentStep(currentStep);
     }
 
     /**
@@ -56,7 +49,7 @@ public class TestStepMonitor {
      */
     public static void setCurrentTest(TestCaseObject currentTest) {
         afterAllSteps();
-        currentTests.put(Thread.currentThread().getName(), currentTest);
+        ExecutionContext.current().setCurrentTest(currentTest);
         beforeAllSteps();
     }
 
@@ -64,14 +57,14 @@ public class TestStepMonitor {
      * get the current step for the current thread
      */
     public static TestCaseStep getCurrentStep() {
-        return currentSteps.get(Thread.currentThread().getName());
+        return ExecutionContext.current().getCurrentStep();
     }
 
     /**
      * get the current test for the current thread
      */
     public static TestCaseObject getCurrentTest() {
-        return currentTests.get(Thread.currentThread().getName());
+        return ExecutionContext.current().getCurrentTest();
     }
 
     /**
@@ -109,6 +102,9 @@ public class TestStepMonitor {
                 getCurrentTest().afterTest();
             } catch (Throwable ex) {
                 error(new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Post Process of Test Case can not be executed!"));
+            } finally {
+                //log of test case is not left open if test case is aborted before its log is stopped
+                getCurrentTest().getTestRunResult().closeTestCaseLog();
             }
         }
     }
@@ -1,6 +1,7 @@
 package io.github.sleod.tas.core.component;
 
 import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.common.logging.TestCaseLog;
 import io.github.sleod.tas.common.utils.DateTimeUtils;
 import io.github.sleod.tas.core.media.IgnoredScreen;
 import io.github.sleod.tas.exception.ExceptionBase;
@@ -47,8 +48,17 @@ public class TestStepResult {
     @Setter
     @Getter
     private String testMethod;
-    @Getter
+    //lines of step log without log of test case, appended by step thread and watchdog
     private final StringBuilder logs = new StringBuilder();
+    //range of step in log of test case
+    @Getter
+    private volatile TestCaseLog testCaseLog;
+    @Getter
+    private long logStart = -1;
+    @Getter
+    private long failureStart = -1;
+    @Getter
+    private volatile long logEnd = -1;
 
     /**
      * Constructor for TestStepResult.
@@ -99,12 +109,122 @@ public class TestStepResult {
         stopTime = DateTimeUtils.getNowMilli();
     }
 
+    /**
+     * get step logs, read from range of step in log of test case if available
+     *
+     * @return step logs without failure
+     */
     public String getStepLogs() {
-        return logs.toString();
+        StringBuilder stepLogs = new StringBuilder();
+        if (hasLogRange()) {
+            stepLogs.append(testCaseLog.read(logStart, getStepLogEnd()));
+        }
+        stepLogs.append(getMemoryLogs());
+        return stepLogs.toString();
+    }
+
+    /**
+     * get step logs as before step logs were kept in log of test case
+     *
+     * @return copy of step logs, appending to it does not change the step logs
+     * @deprecated use {@link #getStepLogs()} to read and {@link #logInfo(String)} to write step logs
+     */
+    @Deprecated
+    public StringBuilder getLogs() {
+        return new StringBuilder(getStepLogs());
+    }
+
+    /**
+     * @return step logs kept in memory, which are not in range of log of test case
+     */
+    public String getMemoryLogs() {
+        synchronized (logs) {
+            return logs.toString();
+        }
+    }
+
+    public void logInfo(String line) {
+        TestCaseLog log = testCaseLog;
+        if (log != null && logEnd < 0) {
+            log.append(line);
+        } else {
+            synchronized (logs) {
+                logs.append(line).append(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * start range of step in log of test case, following lines are written to the log
+     *
+     * @param log log of test case, null to keep lines in memory
+     */
+    public void beginLog(TestCaseLog log) {
+        synchronized (logs) {
+            logs.setLength(0);
+        }
+        failureStart = -1;
+        logEnd = -1;
+        if (log != null) {
+            logStart = log.position();
+        }
+        testCaseLog = log;
+    }
+
+    /**
+     * end range of step in log of test case, failure of step is written after the step logs
+     */
+    public void endLog() {
+        TestCaseLog log = testCaseLog;
+        if (log == null || logEnd >= 0) {
+            return;
+        }
+        if (getStatus().equals(TestStatus.FAIL)) {
+            failureStart = log.position();
+            log.append(getTestFailure().getMessage());
+            log.append(getTestFailure().getTrace());
+        }
+        logEnd = log.position();
+    }
+
+    /**
+     * @return true if step logs are written to range of log of test case
+     */
+    public boolean hasLogRange() {
+        return testCaseLog != null && logStart >= 0;
+    }
+
+    /**
+     * @return end of step logs in log of test case, which is the start of failure if step failed
+     */
+    public long getStepLogEnd() {
+        if (failureStart >= 0) {
+            return failureStart;
+        }
+        return logEnd >= 0 ? logEnd : testCaseLog.position();
     }
 
-    public synchronized void logInfo(String line) {
-        logs.append(line).append(System.lineSeparator());
+    /**
+     * restore failure and logs of step result rehydrated from spilled summary
+     *
+     * @param failure      failure of step, null if not failed
+     * @param log          log of test case, null if logs were kept in memory
+     * @param logStart     start of step logs in log of test case
+     * @param failureStart start of failure in log of test case, -1 if not failed
+     * @param logEnd       end of step in log of test case
+     * @param lines        step logs kept in memory
+     */
+    void restore(TestFailure failure, TestCaseLog log, long logStart, long failureStart, long logEnd, String lines) {
+        this.testFailure = failure;
+        this.testCaseLog = log;
+        this.logStart = logStart;
+        this.failureStart = failureStart;
+        this.logEnd = logEnd;
+        if (lines != null && !lines.isEmpty()) {
+            synchronized (logs) {
+                logs.append(lines);
+            }
+        }
     }
 
     public String getStepId() {
@@ -0,0 +1,314 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.PropertyKey;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.json.ObjectMapperSingleton;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
+import static io.github.sleod.tas.common.utils.StringTextUtils.isValid;
+
+/**
+ * Work queue shared by several runner processes over a folder on same host or shared file system.
+ * <p>
+ * Each runner discovers the same test cases and pulls units of work one at a time: a single test case or a chain of
+ * series test cases. The state of the queue is kept in a json file, which is only accessed under a file lock, so no
+ * broker is required. The run id is required and must be unique per run, e.g. id of CI pipeline. The first runner of a
+ * run id creates the queue, longest units first with history of previous run. Leases of running units are renewed by
+ * a heartbeat. Leases of crashed runners expire and the units are re-queued, up to a max number of attempts. A runner
+ * without pending units waits until all units are done or abandoned, to take over units of crashed runners. The
+ * worker, start and stop of each unit are recorded in the state file.
+ */
+public final class WorkQueue {
+
+    private static final String STATE_FILE = "queue.json";
+    private static final String LOCK_FILE = "queue.lock";
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long POLL_MILLIS = 1000;
+    private static final Object JVM_LOCK = new Object();
+    private final Path stateFile;
+    private final Path lockFile;
+    private final String runId;
+    private final String worker;
+    private final long leaseMillis;
+    private final Map<String, List<TestCaseObject>> units = new LinkedHashMap<>();
+    private volatile String leased;
+    private ScheduledExecutorService heartbeat;
+
+    /**
+     * @param testCaseObjects all test cases of run, same in all runners
+     */
+    public WorkQueue(List<TestCaseObject> testCaseObjects) {
+        Path dir = Paths.get(PropertyResolver.getWorkQueueDir());
+        stateFile = dir.resolve(STATE_FILE);
+        lockFile = dir.resolve(LOCK_FILE);
+        runId = PropertyResolver.getWorkQueueRunId();
+        if (!isValid(runId)) {
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "Run id of work queue is required, set unique "
+                                                                       + PropertyKey.EXECUTION_QUEUE_RUN_ID.key() + " per run!");
+        }
+        worker = isValid(PropertyResolver.getWorkQueueWorker()) ? PropertyResolver.getWorkQueueWorker() : defaultWorker();
+        leaseMillis = TimeUnit.SECONDS.toMillis(PropertyResolver.getWorkQueueLeaseTimeout());
+        for (TestCaseObject testCaseObject : testCaseObjects) {
+            units.computeIfAbsent(TestSharding.unitKey(testCaseObject), key -> new ArrayList<>()).add(testCaseObject);
+        }
+        //series chains in order of series number
+        units.values().forEach(unit -> unit.sort(Comparator.comparing(testCaseObject -> Objects.toString(testCaseObject.getSeriesNumber(), ""))));
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_GENERAL, ex, "Create work queue folder: " + dir);
+        }
+        List<String> ordered = orderByDuration(testCaseObjects);
+        locked(state -> {
+            if (!runId.equals(state.getRunId())) {
+                state.setRunId(runId);
+                state.getEntries().clear();
+                ordered.forEach(key -> state.getEntries().put(key, new Entry()));
+                info("Work queue created for run '" + runId + "' with units: " + ordered.size());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * @return true if test cases are pulled from shared work queue
+     */
+    public static boolean isEnabled() {
+        return isValid(PropertyResolver.getWorkQueueDir());
+    }
+
+    /**
+     * pull units of test cases from queue, one at a time. A unit is completed when the next unit is pulled, after
+     * post-process of its test cases is drained. Without pending units, the queue is polled until all units are done
+     * or abandoned.
+     *
+     * @return lazy stream of units leased by this worker
+     */
+    public Stream<List<TestCaseObject>> units() {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<List<TestCaseObject>>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super List<TestCaseObject>> action) {
+                completeLeased();
+                Optional<String> next = lease();
+                while (next.isEmpty() && !isFinished()) {
+                    try {
+                        Thread.sleep(POLL_MILLIS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        warn("Worker " + worker + " is interrupted while waiting for units of other workers.");
+                        break;
+                    }
+                    next = lease();
+                }
+                if (next.isEmpty()) {
+                    stopHeartbeat();
+                    info("Work queue is empty, worker " + worker + " is finished.");
+                    return false;
+                }
+                List<TestCaseObject> unit = units.get(next.get());
+                if (unit == null) {
+                    warn("Unit of work queue is unknown to worker " + worker + ": " + next.get());
+                    unit = Collections.emptyList();
+                }
+                action.accept(unit);
+                return true;
+            }
+        }, false);
+    }
+
+    /**
+     * lease next pending unit, expired leases of crashed workers are re-queued before
+     *
+     * @return key of leased unit, empty if no unit left
+     */
+    private Optional<String> lease() {
+        Optional<String> next = locked(state -> {
+            long now = System.currentTimeMillis();
+            state.getEntries().forEach((key, entry) -> {
+                if (entry.getStatus() == Status.LEASED && entry.getLeasedUntil() < now) {
+                    boolean retry = entry.getAttempts() < MAX_ATTEMPTS;
+                    warn("Lease of worker " + entry.getWorker() + " expired for: " + key + (retry ? ", unit is re-queued." : ", unit is abandoned."));
+                    entry.setStatus(retry ? Status.PENDING : Status.ABANDONED);
+                }
+            });
+            for (Map.Entry<String, Entry> candidate : state.getEntries().entrySet()) {
+                Entry entry = candidate.getValue();
+                if (entry.getStatus() == Status.PENDING) {
+                    entry.setStatus(Status.LEASED);
+                    entry.setWorker(worker);
+                    entry.setStart(now);
+                    entry.setLeasedUntil(now + leaseMillis);
+                    entry.setAttempts(entry.getAttempts() + 1);
+                    return Optional.of(candidate.getKey());
+                }
+            }
+            return Optional.empty();
+        });
+        next.ifPresent(key -> {
+            info("Worker " + worker + " leased: " + key);
+            leased = key;
+            startHeartbeat();
+        });
+        return next;
+    }
+
+    /**
+     * @return true if all units are done or abandoned
+     */
+    private boolean isFinished() {
+        return locked(state -> state.getEntries().values().stream()
+                .allMatch(entry -> entry.getStatus() == Status.DONE || entry.getStatus() == Status.ABANDONED));
+    }
+
+    /**
+     * finish post-process of last test case and complete leased unit
+     */
+    private void completeLeased() {
+        String key = leased;
+        if (key == null) {
+            return;
+        }
+        TestStepMonitor.afterAllSteps();
+        ExecutionContext.current().setCurrentTest(null);
+        //results are written before unit is done
+        PostTestPipeline.drain();
+        leased = null;
+        locked(state -> {
+            Entry entry = state.getEntries().get(key);
+            if (entry != null && worker.equals(entry.getWorker())) {
+                entry.setStatus(Status.DONE);
+                entry.setStop(System.currentTimeMillis());
+            }
+            return null;
+        });
+    }
+
+    private synchronized void startHeartbeat() {
+        if (heartbeat == null) {
+            heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("tas-queue-heartbeat").daemon().factory());
+            long period = Math.max(1000, leaseMillis / 3);
+            heartbeat.scheduleAtFixedRate(this::renewLease, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void stopHeartbeat() {
+        if (heartbeat != null) {
+            heartbeat.shutdownNow();
+            heartbeat = null;
+        }
+    }
+
+    private void renewLease() {
+        String key = leased;
+        if (key == null) {
+            return;
+        }
+        try {
+            locked(state -> {
+                Entry entry = state.getEntries().get(key);
+                if (entry != null && entry.getStatus() == Status.LEASED && worker.equals(entry.getWorker())) {
+                    entry.setLeasedUntil(System.currentTimeMillis() + leaseMillis);
+                }
+                return null;
+            });
+        } catch (Throwable throwable) {
+            warn("Renew lease failed: " + throwable.getMessage());
+        }
+    }
+
+    /**
+     * read, change and write state under file lock, file locks are held by the JVM, so access within the JVM is
+     * serialized before
+     *
+     * @param action change of state
+     * @return result of action
+     */
+    private <T> T locked(Function<State, T> action) {
+        synchronized (JVM_LOCK) {
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                State state = Files.exists(stateFile) ? ObjectMapperSingleton.readValue(stateFile, State.class) : new State();
+                T result = action.apply(state);
+                Path temp = stateFile.resolveSibling(STATE_FILE + "." + ProcessHandle.current().pid());
+                ObjectMapperSingleton.prettyWriter().writeValue(temp.toFile(), state);
+                Files.move(temp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return result;
+            } catch (IOException ex) {
+                throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_GENERAL, ex, "Access work queue: " + stateFile);
+            }
+        }
+    }
+
+    /**
+     * order units longest first with durations of previous run, else in order of discovery
+     */
+    private List<String> orderByDuration(List<TestCaseObject> testCaseObjects) {
+        Map<TestCaseObject, Long> durations = HistoryScheduler.predictDurations(testCaseObjects);
+        Map<String, Long> weights = new HashMap<>();
+        units.forEach((key, unit) -> weights.put(key, unit.stream().mapToLong(testCaseObject -> durations.getOrDefault(testCaseObject, 0L)).sum()));
+        List<String> ordered = new ArrayList<>(units.keySet());
+        ordered.sort(Comparator.comparing((String key) -> -weights.get(key)));
+        return ordered;
+    }
+
+    private static String defaultWorker() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (IOException ex) {
+            host = "localhost";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+
+    enum Status {
+        PENDING, LEASED, DONE, ABANDONED
+    }
+
+    /**
+     * state of work queue in json file
+     */
+    @Getter
+    @Setter
+    static class State {
+        private String runId;
+        private Map<String, Entry> entries = new LinkedHashMap<>();
+    }
+
+    /**
+     * state of one unit of work
+     */
+    @Getter
+    @Setter
+    static class Entry {
+        private Status status = Status.PENDING;
+        private String worker;
+        private int attempts;
+        private long leasedUntil;
+        private long start;
+        private long stop;
+    }
+}
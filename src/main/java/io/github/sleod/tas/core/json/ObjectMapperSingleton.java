@@ -1,32 +1,121 @@
 package io.github.sleod.tas.core.json;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holder of the shared, thread safe object mapper with its compact and pretty writers and cached readers per type.
+ * <p>
+ * The mapper writes compact json. Use {@link #prettyWriter()} where json is written for human reading.
+ * The blackbird module is registered to the mapper, so that properties are accessed by generated lambdas.
+ */
 public class ObjectMapperSingleton {
 
-    private static ObjectMapper MAPPER;
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ObjectWriter COMPACT_WRITER = MAPPER.writer();
+    private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+    private static final Map<Type, ObjectReader> READERS = new ConcurrentHashMap<>();
 
     private ObjectMapperSingleton() {
     }
 
     public static ObjectMapper mapper() {
-        if (MAPPER == null) {
-            MAPPER = new ObjectMapper();
-            MAPPER.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
-            MAPPER.enable(SerializationFeature.INDENT_OUTPUT);
-        }
         return MAPPER;
     }
 
+    /**
+     * writer of compact json
+     *
+     * @return object writer
+     */
+    public static ObjectWriter compactWriter() {
+        return COMPACT_WRITER;
+    }
+
+    /**
+     * writer of indented json for human reading
+     *
+     * @return object writer
+     */
+    public static ObjectWriter prettyWriter() {
+        return PRETTY_WRITER;
+    }
+
+    /**
+     * cached reader for type
+     *
+     * @param type target class
+     * @return object reader
+     */
+    public static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, key -> MAPPER.readerFor(type));
+    }
+
+    /**
+     * cached reader for generic type
+     *
+     * @param typeReference target type reference
+     * @return object reader
+     */
+    public static ObjectReader reader(TypeReference<?> typeReference) {
+        return READERS.computeIfAbsent(typeReference.getType(), key -> MAPPER.readerFor(typeReference));
+    }
+
+    /**
+     * parse json file directly without reading the content to string
+     *
+     * @param path json file
+     * @param type target class
+     * @return deserialized object
+     * @throws IOException in case file not readable or content not parsable
+     */
+    public static <T> T readValue(Path path, Class<T> type) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return readValue(inputStream, type);
+        }
+    }
+
+    /**
+     * parse json stream, the stream will not be closed
+     *
+     * @param inputStream json stream
+     * @param type        target class
+     * @return deserialized object
+     * @throws IOException in case stream not readable or content not parsable
+     */
+    public static <T> T readValue(InputStream inputStream, Class<T> type) throws IOException {
+        return reader(type).readValue(inputStream);
+    }
+
+    /**
+     * parse json file to tree directly without reading the content to string
+     *
+     * @param path json file
+     * @return json node
+     * @throws IOException in case file not readable or content not parsable
+     */
+    public static JsonNode readTree(Path path) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return MAPPER.readTree(inputStream);
+        }
+    }
+
     public static String prettyJson(String rawJson) {
         if (rawJson == null || rawJson.isBlank()) {
             return "{}";
         }
         try {
-            return mapper().writerWithDefaultPrettyPrinter()
-                    .writeValueAsString(mapper().readValue(rawJson, Object.class));
+            return PRETTY_WRITER.writeValueAsString(MAPPER.readValue(rawJson, Object.class));
         } catch (Exception e) {
             // If it's not valid JSON, return raw text
             return rawJson;
@@ -38,10 +127,18 @@ public class ObjectMapperSingleton {
      */
     public static String toJson(Object obj) {
         try {
-            return mapper().writeValueAsString(obj);
+            return COMPACT_WRITER.writeValueAsString(obj);
         } catch (Exception e) {
             return "{}";
         }
     }
 
-}
\ No newline at end of file
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+        //generated accessors instead of reflection
+        mapper.registerModule(new BlackbirdModule());
+        return mapper;
+    }
+
+}
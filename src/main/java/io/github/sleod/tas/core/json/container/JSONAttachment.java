@@ -1,5 +1,6 @@
 package io.github.sleod.tas.core.json.container;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -9,6 +10,11 @@ public class JSONAttachment extends JSONContainer{
     private String name;
     private String type;
     private String source;
+    //range of source file, -1 for whole file
+    @JsonIgnore
+    private long rangeStart = -1;
+    @JsonIgnore
+    private long rangeEnd = -1;
 
     public JSONAttachment(String name, String type, String source) {
         this.name = name;
@@ -16,6 +22,12 @@ public class JSONAttachment extends JSONContainer{
         this.source = source;
     }
 
+    public JSONAttachment(String name, String type, String source, long rangeStart, long rangeEnd) {
+        this(name, type, source);
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+    }
+
     public JSONAttachment() {
     }
 
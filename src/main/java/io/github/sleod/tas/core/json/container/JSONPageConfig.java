@@ -5,11 +5,12 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.github.sleod.tas.core.json.customDeserializer.CustomStringMapDeserializer;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Getter
-public class JSONPageConfig extends JSONContainer{
+public class JSONPageConfig extends JSONContainer implements Serializable {
 
     private final Map<String, Map<String, String>> configurations = new LinkedHashMap<>();
 
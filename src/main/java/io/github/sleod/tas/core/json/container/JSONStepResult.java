@@ -93,6 +93,20 @@ public class JSONStepResult extends JSONContainer {
     }
 
     private void addLogs(TestStepResult stepResult) {
+        if (!PropertyResolver.isStepLogAttachmentEnabled()) {
+            return;
+        }
+        if (stepResult.hasLogRange()) {
+            //views of ranges in log of test case, copied while results are written
+            String source = stepResult.getTestCaseLog().getPath().toString();
+            if (stepResult.getStepLogEnd() > stepResult.getLogStart()) {
+                attachments.add(new JSONAttachment("Step Log", "text/plain", source, stepResult.getLogStart(), stepResult.getStepLogEnd()));
+            }
+            if (stepResult.getFailureStart() >= 0) {
+                attachments.add(new JSONAttachment("Failure", "text/plain", source, stepResult.getFailureStart(), stepResult.getLogEnd()));
+            }
+            return;
+        }
         String location = new File(logFilePath).getParentFile().getAbsolutePath();
         String filePath = location + "/" + UUID.randomUUID() + "_stepLog.txt";
         FileOperation.writeStringToFile(stepResult.getStepLogs(), new File(filePath));
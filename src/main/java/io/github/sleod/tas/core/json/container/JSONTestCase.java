@@ -12,12 +12,13 @@ import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.collections4.CollectionUtils;
 
+import java.io.Serializable;
 import java.util.*;
 
 /**
  * Object Container Class of JSON Test Case
  */
-public class JSONTestCase extends JSONContainer {
+public class JSONTestCase extends JSONContainer implements Serializable {
 
     @Getter
     private String name;
@@ -52,6 +53,9 @@ public class JSONTestCase extends JSONContainer {
     private String startURL;
     @Setter
     @Getter
+    private String sessionUser;
+    @Setter
+    @Getter
     private String seriesNumber;
     @Getter
     private List<JSONTestCaseStep> steps;
@@ -6,10 +6,11 @@ import io.github.sleod.tas.core.json.customDeserializer.CustomIntegerListDeseria
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.Serializable;
 import java.util.List;
 
 @Getter
-public class JSONTestCaseConditions extends JSONContainer {
+public class JSONTestCaseConditions extends JSONContainer implements Serializable {
 
     @Setter
     private int limit;
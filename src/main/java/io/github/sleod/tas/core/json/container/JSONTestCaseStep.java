@@ -3,6 +3,7 @@ package io.github.sleod.tas.core.json.container;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -10,7 +11,7 @@ import java.util.Objects;
  */
 @Setter
 @Getter
-public class JSONTestCaseStep extends JSONContainer {
+public class JSONTestCaseStep extends JSONContainer implements Serializable {
 
     private String name;
     private String testObject;
@@ -18,6 +19,8 @@ public class JSONTestCaseStep extends JSONContainer {
     private String takeScreenshot;
     private String stopOnError;
     private String comment;
+    private String timeout;
+    private String login;
     private int retry = 0;
 
     @Override
@@ -0,0 +1,95 @@
+package io.github.sleod.tas.core.json.deserialization;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.sleod.tas.common.IOUtils.FileLocator;
+import io.github.sleod.tas.configuration.PropertyResolver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.debug;
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+
+/**
+ * Run scoped cache of parsed config files, so that each config file is read and parsed once per run.
+ * <p>
+ * The cached trees are never handed out, callers get their own copy. Entries can be invalidated explicitly, or
+ * refreshed on access in case the config file was changed while running, if enabled with config.cache.refresh.
+ */
+public final class ConfigCache {
+
+    private static final Map<String, Entry> configs = new ConcurrentHashMap<>();
+
+    private ConfigCache() {
+    }
+
+    /**
+     * get copy of parsed config file
+     *
+     * @param filePath resource path of config file
+     * @return JSON object of config file
+     */
+    public static JsonNode get(String filePath) {
+        return getShared(filePath).deepCopy();
+    }
+
+    /**
+     * get cached config tree, which must not be modified
+     *
+     * @param filePath resource path of config file
+     * @return JSON object of config file
+     */
+    static JsonNode getShared(String filePath) {
+        Entry entry = configs.computeIfAbsent(filePath, ConfigCache::load);
+        if (PropertyResolver.isConfigCacheRefreshEnabled() && entry.isOutdated()) {
+            info("Config file changed, reload: " + filePath);
+            entry = load(filePath);
+            configs.put(filePath, entry);
+        }
+        return entry.node();
+    }
+
+    /**
+     * remove config file from cache, it will be read again on next access
+     *
+     * @param filePath resource path of config file
+     */
+    public static void invalidate(String filePath) {
+        configs.remove(filePath);
+    }
+
+    /**
+     * remove all config files from cache
+     */
+    public static void invalidateAll() {
+        configs.clear();
+    }
+
+    private static Entry load(String filePath) {
+        Path path = FileLocator.findResource(filePath);
+        debug("Load config file: " + path);
+        BasicFileAttributes attributes = readAttributes(path);
+        return new Entry(path, JSONContainerFactory.readJsonTree(path),
+                attributes == null ? -1 : attributes.lastModifiedTime().toMillis(), attributes == null ? -1 : attributes.size());
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private record Entry(Path path, JsonNode node, long lastModified, long size) {
+
+        private boolean isOutdated() {
+            BasicFileAttributes attributes = readAttributes(path);
+            return attributes != null && (attributes.lastModifiedTime().toMillis() != lastModified || attributes.size() != size);
+        }
+    }
+}
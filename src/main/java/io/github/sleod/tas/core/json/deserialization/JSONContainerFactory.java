@@ -1,11 +1,14 @@
 package io.github.sleod.tas.core.json.deserialization;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.github.sleod.tas.common.IOUtils.FileLocator;
 import io.github.sleod.tas.common.IOUtils.FileOperation;
 import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.json.ObjectMapperSingleton;
 import io.github.sleod.tas.core.json.container.*;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
@@ -13,13 +16,16 @@ import io.github.sleod.tas.exception.ExceptionErrorKeys;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
 
 import static io.github.sleod.tas.common.logging.SystemLogger.debug;
 import static io.github.sleod.tas.common.logging.SystemLogger.info;
-import static io.github.sleod.tas.core.json.ObjectMapperSingleton.mapper;
+import static io.github.sleod.tas.core.json.ObjectMapperSingleton.compactWriter;
 
 public class JSONContainerFactory {
 
@@ -38,9 +44,71 @@ public class JSONContainerFactory {
      * @return JSONTestCase
      */
     public static JSONTestCase buildJSONTestCaseObject(String jsonFilePath) {
-        String path = FileLocator.findResource(jsonFilePath).toString();
-        String jsonString = FileOperation.readFileToLinedString(path);
-        return buildJSONObject(jsonString, JSONTestCase.class);
+        return ParsedContainerCache.get(FileLocator.findResource(jsonFilePath), JSONTestCase.class,
+                path -> buildJSONObject(path, JSONTestCase.class));
+    }
+
+    /**
+     * read meta tags of test case file by streaming, without building the whole test case object.
+     *
+     * @param jsonFilePath file path
+     * @return meta tags, empty if not defined
+     */
+    public static List<String> readTestCaseMeta(String jsonFilePath) {
+        return toTextList(readTestCaseFields(jsonFilePath, "meta").get("meta"));
+    }
+
+    /**
+     * get text values of json array
+     *
+     * @param arrayNode json array, may be null
+     * @return list of text values, empty if not an array
+     */
+    public static List<String> toTextList(JsonNode arrayNode) {
+        if (arrayNode == null || !arrayNode.isArray()) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(arrayNode.size());
+        arrayNode.forEach(node -> {
+            if (node.isValueNode()) {
+                values.add(node.asText());
+            }
+        });
+        return values;
+    }
+
+    /**
+     * read top level fields of test case file by streaming, other fields are skipped without building nodes.
+     * Parsing stops as soon as all fields are read.
+     *
+     * @param jsonFilePath file path
+     * @param fieldNames   names of top level fields
+     * @return map of field name and value, fields not defined are absent
+     */
+    public static Map<String, JsonNode> readTestCaseFields(String jsonFilePath, String... fieldNames) {
+        Path path = FileLocator.findResource(jsonFilePath);
+        Set<String> names = Set.of(fieldNames);
+        Map<String, JsonNode> fields = new HashMap<>(names.size());
+        try (InputStream inputStream = Files.newInputStream(path);
+             JsonParser parser = ObjectMapperSingleton.mapper().getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, JSONTestCase.class.getSimpleName());
+            }
+            while (fields.size() < names.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (names.contains(fieldName)) {
+                    fields.put(fieldName, parser.readValueAsTree());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return fields;
+        } catch (JsonProcessingException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, JSONTestCase.class.getSimpleName());
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
+        }
     }
 
     /**
@@ -79,8 +147,8 @@ public class JSONContainerFactory {
      * @return JSONPageConfig
      */
     public static JSONPageConfig readTestObjectConfig(String jsonFilePath) {
-        String jsonString = FileOperation.readFileToLinedString(FileLocator.findResource(jsonFilePath).toString());
-        return buildJSONObject(jsonString, JSONPageConfig.class);
+        return ParsedContainerCache.get(FileLocator.findResource(jsonFilePath), JSONPageConfig.class,
+                path -> buildJSONObject(path, JSONPageConfig.class));
     }
 
     /**
@@ -90,8 +158,7 @@ public class JSONContainerFactory {
      * @return JSONTestResult
      */
     public static JSONTestResult readJSONTestResult(String jsonFilePath) {
-        String jsonString = FileOperation.readFileToLinedString(jsonFilePath);
-        return buildJSONObject(jsonString, JSONTestResult.class);
+        return buildJSONObject(Path.of(jsonFilePath), JSONTestResult.class);
     }
 
     /**
@@ -128,8 +195,11 @@ public class JSONContainerFactory {
      * @return JSONDriverConfig
      */
     public static JSONRunnerConfig getRunnerConfig(String jsonFileName) {
-        String jsonString = FileOperation.readFileToLinedString(FileLocator.findResource(jsonFileName).toString());
-        return buildJSONObject(jsonString, JSONRunnerConfig.class);
+        try {
+            return ObjectMapperSingleton.reader(JSONRunnerConfig.class).readValue(ConfigCache.getShared(jsonFileName));
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, JSONRunnerConfig.class.getSimpleName());
+        }
     }
 
     /**
@@ -189,8 +259,7 @@ public class JSONContainerFactory {
             //copy attachments to results folder and modify the source
             result = resolveAttachments(result);
             try {
-                String serialized = mapper().writeValueAsString(result);
-                FileOperation.writeStringToFile(serialized, path);
+                compactWriter().writeValue(new File(path), result);
             } catch (IOException ex) {
                 throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_WRITING, ex, path);
             }
@@ -206,21 +275,46 @@ public class JSONContainerFactory {
 
     public static void resolveAttachmentFile(JSONAttachment attachment) {
         String resultsDir = PropertyResolver.getAllureResultsDirectory();
+        if (attachment.getRangeStart() >= 0) {
+            String path = resultsDir + "attachment-" + UUID.randomUUID() + ".txt";
+            copyRange(Paths.get(attachment.getSource()), attachment.getRangeStart(), attachment.getRangeEnd(), Paths.get(path));
+            attachment.setSource(Paths.get(path).getFileName().toString());
+            attachment.setRangeStart(-1);
+            attachment.setRangeEnd(-1);
+            return;
+        }
         String path = resultsDir + "attachment-" + UUID.randomUUID() + "." + FileOperation.getFileNameExtension(attachment.getSource());
         File targetFile = new File(path);
         FileOperation.copyFileTo(new File(attachment.getSource()).toPath(), targetFile.toPath());
         attachment.setSource(targetFile.getName());
     }
 
-    public static JsonNode getAllureResultObject(Path path) {
-        String content = FileOperation.readFileToLinedString(path.toString());
-        JsonNode node;
-        try {
-            node = mapper().readTree(content);
-        } catch (JsonProcessingException ex) {
-            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, path);
+    /**
+     * copy range of source file into target file without reading it into memory
+     *
+     * @param source source file
+     * @param start  start position
+     * @param end    end position, exclusive
+     * @param target target file
+     */
+    private static void copyRange(Path source, long start, long end, Path target) {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = start;
+            while (position < end) {
+                long copied = in.transferTo(position, end - position, out);
+                if (copied <= 0) {
+                    break;
+                }
+                position += copied;
+            }
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_WRITING, ex, target);
         }
-        return node;
+    }
+
+    public static JsonNode getAllureResultObject(Path path) {
+        return readJsonTree(path);
     }
 
     /**
@@ -296,15 +390,23 @@ public class JSONContainerFactory {
      * @return JSON object of config file
      */
     public static JsonNode getConfig(String filePath) {
-        String path = FileLocator.findResource(filePath).toString();
-        String content = FileOperation.readFileToLinedString(path);
-        JsonNode fileData;
+        return ConfigCache.get(filePath);
+    }
+
+    /**
+     * parse json file to tree directly from file
+     *
+     * @param path path of json file
+     * @return JSON object of file
+     */
+    public static JsonNode readJsonTree(Path path) {
         try {
-            fileData = mapper().readTree(content);
+            return ObjectMapperSingleton.readTree(path);
         } catch (JsonProcessingException ex) {
-            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, filePath);
+            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, path);
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
         }
-        return fileData;
     }
 
     /**
@@ -333,9 +435,26 @@ public class JSONContainerFactory {
 
     public static <T> T buildJSONObject(String jsonString, Class<T> myClass) {
         try {
-            return mapper().readValue(jsonString, myClass);
+            return ObjectMapperSingleton.reader(myClass).readValue(jsonString);
+        } catch (JsonProcessingException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, myClass.getSimpleName());
+        }
+    }
+
+    /**
+     * build object directly from json file without reading the content to string
+     *
+     * @param path    path of json file
+     * @param myClass target class
+     * @return deserialized object
+     */
+    public static <T> T buildJSONObject(Path path, Class<T> myClass) {
+        try {
+            return ObjectMapperSingleton.readValue(path, myClass);
         } catch (JsonProcessingException ex) {
             throw new ExceptionBase(ExceptionErrorKeys.EXCEPTION_BY_DESERIALIZATION, ex, myClass.getSimpleName());
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, path);
         }
     }
 
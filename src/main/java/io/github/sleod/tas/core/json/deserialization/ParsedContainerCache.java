@@ -0,0 +1,125 @@
+package io.github.sleod.tas.core.json.deserialization;
+
+import io.github.sleod.tas.configuration.PropertyResolver;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.debug;
+
+/**
+ * On-disk cache of parsed JSON containers, like test cases and test object configs.
+ * <p>
+ * Each source file is stored in its own binary entry under {@link #CACHE_LOCATION}, together with path, size and
+ * last modified time of the source. An entry is only used while the source file is unchanged, otherwise the file
+ * will be parsed again and the entry replaced. Broken or outdated entries, e.g. after update of container classes,
+ * are treated as cache miss.
+ */
+public final class ParsedContainerCache {
+
+    public static final String CACHE_LOCATION = "target/tas-cache/parsed/";
+    private static final int FORMAT_VERSION = 1;
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "io.github.sleod.tas.core.json.container.*;io.github.sleod.tas.common.enumerations.*;java.util.*;java.lang.*;!*");
+
+    private ParsedContainerCache() {
+    }
+
+    /**
+     * get parsed container of source file from cache or parse it and store result in cache
+     *
+     * @param source source file
+     * @param type   class of container
+     * @param parser parser of source file
+     * @param <T>    type of container
+     * @return parsed container
+     */
+    public static <T extends Serializable> T get(Path source, Class<T> type, Function<Path, T> parser) {
+        if (!PropertyResolver.isParseCacheEnabled() || !source.getFileSystem().equals(FileSystems.getDefault())) {
+            return parser.apply(source);
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(source, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return parser.apply(source);
+        }
+        String sourcePath = source.toAbsolutePath().normalize().toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        Path entry = Path.of(CACHE_LOCATION, toEntryName(sourcePath));
+        T container = read(entry, type, sourcePath, size, lastModified);
+        if (container == null) {
+            container = parser.apply(source);
+            write(entry, container, sourcePath, size, lastModified);
+        }
+        return container;
+    }
+
+    /**
+     * remove all entries of cache
+     */
+    public static void clear() {
+        File[] entries = new File(CACHE_LOCATION).listFiles();
+        if (entries != null) {
+            for (File entry : entries) {
+                entry.delete();
+            }
+        }
+    }
+
+    private static <T> T read(Path entry, Class<T> type, String sourcePath, long size, long lastModified) {
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try (ObjectInputStream inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+            inputStream.setObjectInputFilter(FILTER);
+            if (inputStream.readInt() != FORMAT_VERSION || !inputStream.readUTF().equals(sourcePath)
+                    || inputStream.readLong() != size || inputStream.readLong() != lastModified) {
+                return null;
+            }
+            Object container = inputStream.readObject();
+            return type.isInstance(container) ? type.cast(container) : null;
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            debug("Parsed Container Cache entry not usable: " + sourcePath + " -> " + ex.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(Path entry, Serializable container, String sourcePath, long size, long lastModified) {
+        Path temp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            temp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (ObjectOutputStream outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                outputStream.writeInt(FORMAT_VERSION);
+                outputStream.writeUTF(sourcePath);
+                outputStream.writeLong(size);
+                outputStream.writeLong(lastModified);
+                outputStream.writeObject(container);
+            }
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException ex) {
+            debug("Parsed Container Cache entry can not be written: " + sourcePath + " -> " + ex.getMessage());
+        } finally {
+            if (temp != null) {
+                temp.toFile().delete();
+            }
+        }
+    }
+
+    private static String toEntryName(String sourcePath) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(sourcePath.getBytes(StandardCharsets.UTF_8))) + ".bin";
+        } catch (NoSuchAlgorithmException ex) {
+            return Integer.toHexString(sourcePath.hashCode()) + ".bin";
+        }
+    }
+}
@@ -61,7 +61,7 @@ public class MavenReportWriter {
         if (testStepResult.getStatus().equals(TestStatus.FAIL)) {
             Element failure = new Element("failure")
                     .setAttribute("message", testStepResult.getTestFailure().getMessage())
-                    .setAttribute("type", testStepResult.getTestFailure().getException().getClass().getName())
+                    .setAttribute("type", testStepResult.getTestFailure().getType())
                     .addContent(new CDATA(testStepResult.getTestFailure().getTrace()));
             testCase.addContent(failure);
         }
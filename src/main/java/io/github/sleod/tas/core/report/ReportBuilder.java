@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.github.sleod.tas.common.IOUtils.FileOperation;
+import io.github.sleod.tas.common.logging.TestCaseLog;
 import io.github.sleod.tas.common.enumerations.PropertyKey;
 import io.github.sleod.tas.common.enumerations.TestStatus;
 import io.github.sleod.tas.common.utils.DateTimeUtils;
@@ -37,7 +38,6 @@ import static io.github.sleod.tas.core.json.deserialization.JSONContainerFactory
 
 public class ReportBuilder {
 
-    private static final List<File> extraAttachment = new LinkedList<>();
     private static final String EVN_FILE_NAME = "environment.properties";
     private static final String EXECUTOR_FILE_NAME = "executor.json";
     private static final String FRAMEWORK_CONFIG_FILE_NAME = "frameworkConfig.json";
@@ -63,6 +63,10 @@ public class ReportBuilder {
         }
         info("Set up log file: " + logFile.getAbsolutePath());
         testRunResult.setLogFilePath(logFile.getAbsolutePath());
+        //steps append their logs while the test case runs
+        TestCaseLog testCaseLog = new TestCaseLog(logFile.toPath());
+        testCaseLog.append(testRunResult.getBegin());
+        testRunResult.setTestCaseLog(testCaseLog);
     }
 
     /**
@@ -72,6 +76,22 @@ public class ReportBuilder {
      */
     public void stopRecordingTest(TestRunResult testRunResult) {
         info("Stop recording Test Run ...");
+        TestCaseLog testCaseLog = testRunResult.getTestCaseLog();
+        if (testCaseLog == null) {
+            FileOperation.writeStringToFile(buildTestLog(testRunResult), testRunResult.getLogFilePath());
+        } else {
+            testCaseLog.append(testRunResult.getEnd());
+            testCaseLog.close();
+        }
+    }
+
+    /**
+     * build content of test case log
+     *
+     * @param testRunResult test run result
+     * @return log content
+     */
+    public String buildTestLog(TestRunResult testRunResult) {
         StringBuilder logContent = new StringBuilder();
         logContent.append(testRunResult.getBegin()).append("\n");
         for (TestStepResult testStepResult : testRunResult.getStepResults()) {
@@ -83,7 +103,7 @@ public class ReportBuilder {
             }
         }
         logContent.append(testRunResult.getEnd()).append("\n");
-        FileOperation.writeStringToFile(logContent.toString(), testRunResult.getLogFilePath());
+        return logContent.toString();
     }
 
     /**
@@ -104,7 +124,7 @@ public class ReportBuilder {
      * @param attachment extra attachment
      */
     public static void addExtraAttachment4TestCase(File attachment) {
-        extraAttachment.add(attachment);
+        ExecutionContext.current().addExtraAttachment(attachment);
     }
 
     /**
@@ -114,7 +134,16 @@ public class ReportBuilder {
      * @return file paths of result JSON files
      */
     public List<String> generateAllureResults(TestCaseObject testCaseObject) {
-        List<JSONTestResult> allureResults = new LinkedList<>();
+        return regenerateAllureResults(Collections.singletonList(buildAllureResult(testCaseObject)));
+    }
+
+    /**
+     * build allure result of test case, attachments are resolved while writing the result
+     *
+     * @param testCaseObject test case object
+     * @return allure test result
+     */
+    public JSONTestResult buildAllureResult(TestCaseObject testCaseObject) {
         String logFilePath = testCaseObject.getTestRunResult().getLogFilePath();
         JSONTestResult jsonTestResult = new JSONTestResult(testCaseObject.getTestRunResult());
         changeTestCaseNameInResult(jsonTestResult, testCaseObject);
@@ -122,7 +151,7 @@ public class ReportBuilder {
         addLabels(jsonTestResult, testCaseObject);//add labels
         addLinks(jsonTestResult, testCaseObject);//add links
         addParameters(jsonTestResult, testCaseObject);//add parameters
-        jsonTestResult.setHistoryId(buildHistoryId(testCaseObject.getPackageName() + "." + jsonTestResult.getName()));
+        jsonTestResult.setHistoryId(buildHistoryId(testCaseObject.getPackageName(), jsonTestResult.getName()));
         for (TestCaseStep testCaseStep : testCaseObject.getSteps()) {
             //Attachment will be done by construction
             JSONStepResult jsonStepResult = new JSONStepResult(testCaseStep, logFilePath);
@@ -146,12 +175,8 @@ public class ReportBuilder {
             jsonTestResult.addAttachment(new File(videoFilePath));
         }
         //attach extra attachments
-        if (!extraAttachment.isEmpty()) {
-            extraAttachment.forEach(jsonTestResult::addAttachment);
-            extraAttachment.clear();
-        }
-        allureResults.add(jsonTestResult);
-        return regenerateAllureResults(allureResults);
+        ExecutionContext.current().takeExtraAttachments().forEach(jsonTestResult::addAttachment);
+        return jsonTestResult;
     }
 
     /**
@@ -252,7 +277,7 @@ public class ReportBuilder {
         //properties
         Arrays.stream(PropertyKey.values()).forEach(propertyKey -> {
             String keyName = propertyKey.key();
-            String propValue = PropertyResolver.getProperty(keyName);
+            String propValue = PropertyResolver.getEffectiveProperty(propertyKey);
             String sysValue = System.getProperty(keyName);
             String value = isValid(sysValue) ? sysValue : propValue;
             int index = keyName.indexOf('.') >= 0 ? keyName.indexOf('.') : keyName.indexOf('_');
@@ -378,6 +403,17 @@ public class ReportBuilder {
         return PropertyResolver.encodeBase64(text);
     }
 
+    /**
+     * build history id of allure result of test case
+     *
+     * @param packageName package name of test case
+     * @param resultName  name of test case in allure result
+     * @return history id
+     */
+    public static String buildHistoryId(String packageName, String resultName) {
+        return PropertyResolver.encodeBase64(packageName + "." + resultName);
+    }
+
     /**
      * restore history folder case existence
      */
@@ -403,11 +439,7 @@ public class ReportBuilder {
     }
 
     private void addLabels(JSONTestResult jsonTestResult, TestCaseObject testCaseObject) {
-        String suiteName = testCaseObject.getPackageName();
-        if (PropertyResolver.getTestCaseLocation().equals(suiteName + "/")) {
-            suiteName = "default";
-        }
-        suiteName = suiteName.replace(PropertyResolver.getTestCaseLocation(), "");//remove 'testCases/'
+        String suiteName = buildSuiteName(testCaseObject.getPackageName());
         testCaseObject.setSuiteName(suiteName);
         addLabelToResult("suite", suiteName, jsonTestResult);
         addLabelToResult("testClass", testCaseObject.getTestRunResult().getName(), jsonTestResult);
@@ -417,6 +449,20 @@ public class ReportBuilder {
         addLabelToResult("thread", testCaseObject.getTestRunResult().getThreadName(), jsonTestResult);
     }
 
+    /**
+     * build suite name of test case, which is the first label of allure result
+     *
+     * @param packageName package name of test case
+     * @return suite name
+     */
+    public static String buildSuiteName(String packageName) {
+        String suiteName = packageName;
+        if (PropertyResolver.getTestCaseLocation().equals(suiteName + "/")) {
+            suiteName = "default";
+        }
+        return suiteName.replace(PropertyResolver.getTestCaseLocation(), "");//remove 'testCases/'
+    }
+
     private void addLinks(JSONTestResult jsonTestResult, TestCaseObject testCaseObject) {
         String testCaseId = testCaseObject.getTestCaseId();
         String source = testCaseObject.getTestCase().getSource();
@@ -0,0 +1,133 @@
+package io.github.sleod.tas.core.report;
+
+import io.github.sleod.tas.common.IOUtils.FileOperation;
+import io.github.sleod.tas.common.utils.XMLUtils;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static io.github.sleod.tas.common.logging.SystemLogger.info;
+
+/**
+ * Merge of reports of shards into one report.
+ * <p>
+ * Each shard directory contains the outputs of one runner: folder "allure-results" and the maven xml report
+ * "MavenXMLReport-latest.xml" at any depth. Result files of allure are unique by uuid and are copied as they are.
+ * Files shared by shards, like environment, executor or history, are taken from the first shard which contains them.
+ * Test cases of maven xml reports are combined into one test suite.
+ * <p>
+ * Usage: ShardReportMerger &lt;target dir&gt; &lt;shard dir&gt; [&lt;shard dir&gt; ...]
+ */
+public class ShardReportMerger {
+
+    private static final String ALLURE_RESULTS = "allure-results";
+    private static final String MAVEN_REPORT = "MavenXMLReport-latest.xml";
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "Usage: ShardReportMerger <target dir> <shard dir> [<shard dir> ...]");
+        }
+        Path target = Paths.get(args[0]);
+        List<Path> shards = Arrays.stream(args).skip(1).map(Paths::get).toList();
+        mergeAllureResults(shards.stream().map(shard -> shard.resolve(ALLURE_RESULTS)).toList(), target.resolve(ALLURE_RESULTS));
+        List<Path> mavenReports = new ArrayList<>();
+        shards.forEach(shard -> findFile(shard, MAVEN_REPORT).ifPresent(mavenReports::add));
+        if (!mavenReports.isEmpty()) {
+            mergeMavenXMLReports(mavenReports, target.resolve(MAVEN_REPORT));
+        }
+    }
+
+    /**
+     * copy allure results of all shards into target folder
+     *
+     * @param shardResults allure results folders of shards
+     * @param target       target allure results folder
+     */
+    public static void mergeAllureResults(List<Path> shardResults, Path target) {
+        FileOperation.makeDirs(target.toFile());
+        int copied = 0;
+        for (Path shardResult : shardResults) {
+            if (!Files.isDirectory(shardResult)) {
+                info("No allure results found in: " + shardResult);
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(shardResult)) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    Path targetFile = target.resolve(shardResult.relativize(file));
+                    //shared files like environment, executor and history are taken from first shard
+                    if (!Files.exists(targetFile)) {
+                        FileOperation.makeDirs(targetFile.getParent().toFile());
+                        FileOperation.copyFileTo(file, targetFile);
+                        copied++;
+                    }
+                }
+            } catch (IOException ex) {
+                throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, shardResult);
+            }
+        }
+        info("Merged " + copied + " allure result files of " + shardResults.size() + " shards into: " + target);
+    }
+
+    /**
+     * combine test cases of maven xml reports into one test suite
+     *
+     * @param reports maven xml reports of shards
+     * @param target  target report file
+     */
+    public static void mergeMavenXMLReports(List<Path> reports, Path target) {
+        Document document = XMLUtils.createNewDoc("testsuite");
+        Element testsuite = document.getRootElement();
+        int tests = 0;
+        int failures = 0;
+        int skipped = 0;
+        for (Path report : reports) {
+            try {
+                Element shardSuite = XMLUtils.getXMLDocumentFromXMLFile(report.toFile()).getRootElement();
+                for (Element testCase : new ArrayList<>(shardSuite.getChildren("testcase"))) {
+                    tests++;
+                    if (testCase.getChild("failure") != null) {
+                        failures++;
+                    }
+                    if (testCase.getChild("skipped") != null) {
+                        skipped++;
+                    }
+                    testsuite.addContent(testCase.detach());
+                }
+            } catch (JDOMException | IOException ex) {
+                throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, report);
+            }
+        }
+        testsuite.setAttribute("name", "Automated Testcases")
+                .setAttribute("tests", String.valueOf(tests))
+                .setAttribute("failures", String.valueOf(failures))
+                .setAttribute("errors", "0")
+                .setAttribute("skipped", String.valueOf(skipped));
+        FileOperation.writeStringToFile(new XMLOutputter(Format.getPrettyFormat()).outputString(document), target.toFile());
+        info("Merged " + tests + " test cases of " + reports.size() + " maven reports into: " + target);
+    }
+
+    private static Optional<Path> findFile(Path root, String fileName) {
+        if (!Files.isDirectory(root)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.filter(file -> file.getFileName().toString().equals(fileName)).findFirst();
+        } catch (IOException ex) {
+            throw new ExceptionBase(ExceptionErrorKeys.IOEXCEPTION_BY_READING, ex, root);
+        }
+    }
+}
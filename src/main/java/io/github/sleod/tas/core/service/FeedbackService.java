@@ -27,8 +27,16 @@ import static io.github.sleod.tas.common.logging.SystemLogger.trace;
 public class FeedbackService {
 
     public void jiraFeedback(List<TestCaseObject> testCaseObjects) {
-        info("Feedback Test Result back to JIRA...");
-        //get data from test case object
+        jiraFeedback(collectJiraResults(testCaseObjects));
+    }
+
+    /**
+     * Collect test results for JIRA feedback, with platform of current driver for mobile app test cases.
+     *
+     * @param testCaseObjects List of TestCaseObject containing test results to be fed back.
+     * @return map of test case id and test run result
+     */
+    public Map<String, TestRunResult> collectJiraResults(List<TestCaseObject> testCaseObjects) {
         Map<String, TestRunResult> testRunResultMap = new HashMap<>(testCaseObjects.size());
         for (TestCaseObject testCaseObject : testCaseObjects) {
             String testCaseId = testCaseObject.getTestCaseId();
@@ -43,6 +51,16 @@ public class FeedbackService {
                 testRunResultMap.put(testCaseIdMap.get(DriverManager.getCurrentPlatform()), testCaseObject.getTestRunResult());
             }
         }
+        return testRunResultMap;
+    }
+
+    /**
+     * Feedback collected test results to JIRA.
+     *
+     * @param testRunResultMap map of test case id and test run result
+     */
+    public void jiraFeedback(Map<String, TestRunResult> testRunResultMap) {
+        info("Feedback Test Result back to JIRA...");
         JSONRunnerConfig jiraExecutionConfig = JSONContainerFactory.getRunnerConfig(PropertyResolver.getJiraExecutionConfigFile());
         JIRARestClient restClient = new JIRARestClient(PropertyResolver.getJiraHost(), PropertyResolver.getJiraPAT());
         restClient.updateRunStatusInExecution(jiraExecutionConfig, testRunResultMap);
@@ -1,27 +1,48 @@
 package io.github.sleod.tas.core.service;
 
+import io.github.sleod.tas.configuration.PropertyResolver;
 import io.github.sleod.tas.core.json.container.JSONDriverConfig;
 import io.github.sleod.tas.exception.ExceptionBase;
 import io.github.sleod.tas.exception.ExceptionErrorKeys;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import static io.github.sleod.tas.common.logging.SystemLogger.info;
+import static io.github.sleod.tas.common.logging.SystemLogger.warn;
 
 
 /**
- * singleton pattern used
- * in runtime only one instance can be generated
+ * Lease pool of remote web driver configs.
+ * <p>
+ * Idle configs are handed out in order of request by a fair semaphore, one permit per idle config, so that no thread
+ * starves under many parallel workers. A thread holds at most one lease, repeated locks of the same thread return
+ * its lease, only the leasing thread returns it. Leases of terminated threads are reclaimed while other threads wait.
+ * Leases of live threads are never reclaimed, as their driver may still be in use, a warning is logged if they are held
+ * longer than the lease timeout. Wait time and utilization of configs are recorded as metrics.
  */
-public final class RemoteWebDriverConfigService extends ConfigService{
+public final class RemoteWebDriverConfigService extends ConfigService {
+    private static final long RECLAIM_INTERVAL_MILLIS = 5000;
     private static final Map<String, JSONDriverConfig> queue = new ConcurrentHashMap<>();
-    private static final Object CONSUMABLE = new Object();
+    private static final ConcurrentLinkedDeque<JSONDriverConfig> idleConfigs = new ConcurrentLinkedDeque<>();
+    private static final Semaphore permits = new Semaphore(0, true);
+    private static final Map<Thread, Lease> leases = new ConcurrentHashMap<>();
+    //leases of live threads held longer than lease timeout, warned once
+    private static final Set<Lease> overdueLeases = ConcurrentHashMap.newKeySet();
+    private static final Metrics metrics = new Metrics();
 
     public static void loadConfigs() {
         synchronized (queue) {
-            getValidDriverConfigs(false).forEach(queue::putIfAbsent);
+            getValidDriverConfigs(false).forEach((key, config) -> {
+                if (queue.putIfAbsent(key, config) == null) {
+                    release(config);
+                }
+            });
             info("Driver Config Service load with configs: " + countConfigs());
         }
     }
@@ -33,63 +54,181 @@ public final class RemoteWebDriverConfigService extends ConfigService{
     }
 
     public static void cleanUp() {
-        queue.clear();
+        synchronized (queue) {
+            permits.drainPermits();
+            idleConfigs.clear();
+            leases.clear();
+            overdueLeases.clear();
+            queue.clear();
+            metrics.reset();
+        }
     }
 
-
-
     public static int countConfigs() {
         return queue.size();
     }
 
+    /**
+     * return config leased by current thread to pool, configs leased by other threads are not released
+     *
+     * @param config leased config
+     */
     public static void unlockConfig(JSONDriverConfig config) {
-        synchronized (queue) {
-            config.setIdle(true);
+        Thread thread = Thread.currentThread();
+        Lease lease = leases.get(thread);
+        if (lease != null && lease.config() == config) {
+            releaseLease(thread, lease, "released");
+        } else {
+            warn("Driver Config " + config.getDeviceName() + " is not leased by thread " + thread.getName() + " and is not released.");
         }
-        notifyAllForEmpty();
     }
 
-    public static Optional<JSONDriverConfig> getConsumableConfig() {
-        synchronized (queue) {
-            return queue.values().stream().filter(JSONDriverConfig::isIdle).findFirst();
+    /**
+     * return config leased by current thread to pool, if any
+     */
+    public static void releaseConfig() {
+        Lease lease = leases.get(Thread.currentThread());
+        if (lease != null) {
+            releaseLease(Thread.currentThread(), lease, "released");
         }
     }
 
+    public static Optional<JSONDriverConfig> getConsumableConfig() {
+        return Optional.ofNullable(idleConfigs.peekFirst());
+    }
+
     public static boolean isConsumable() {
-        synchronized (queue) {
-            return queue.values().stream().anyMatch(JSONDriverConfig::isIdle);
-        }
+        return permits.availablePermits() > 0;
     }
 
+    /**
+     * lease idle config for current thread, waits in order of request until a config is idle
+     *
+     * @return leased config
+     */
     public static JSONDriverConfig lockConfig() {
-        if (!isConsumable()) {
-            try {
-                waitOnEmpty();
-            } catch (InterruptedException ex) {
-                throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Exception while waiting for driver config!");
+        Thread thread = Thread.currentThread();
+        Lease current = leases.get(thread);
+        if (current != null) {
+            return current.config();
+        }
+        long start = System.currentTimeMillis();
+        long waitTimeout = TimeUnit.SECONDS.toMillis(PropertyResolver.getRemoteConfigWaitTimeout());
+        try {
+            //timed try respects fairness, tryAcquire() without timeout would overtake waiting threads
+            if (!permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                info("No Config is idle, please wait!");
+                metrics.waiting(1);
+                try {
+                    while (!permits.tryAcquire(RECLAIM_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                        reclaimLeases();
+                        if (waitTimeout > 0 && System.currentTimeMillis() - start >= waitTimeout) {
+                            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "No driver config was idle within "
+                                    + PropertyResolver.getRemoteConfigWaitTimeout() + " s! " + getMetrics());
+                        }
+                    }
+                } finally {
+                    metrics.waiting(-1);
+                }
             }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, ex, "Exception while waiting for driver config!");
         }
-        return busy();
+        //one permit for each idle config, poll never fails
+        JSONDriverConfig config = idleConfigs.pollFirst();
+        config.setIdle(false);
+        long now = System.currentTimeMillis();
+        leases.put(thread, new Lease(config, now));
+        metrics.leased(now - start);
+        return config;
     }
 
-    private static JSONDriverConfig busy() {
-        synchronized (queue) {
-            JSONDriverConfig config = getConsumableConfig().get();
-            config.setIdle(false);
-            return config;
-        }
+    /**
+     * @return summary of wait time and utilization of configs
+     */
+    public static String getMetrics() {
+        return metrics.summary(countConfigs(), leases.size());
     }
 
-    private static void notifyAllForEmpty() {
-        synchronized (CONSUMABLE) {
-            CONSUMABLE.notify();
+    /**
+     * reclaim leases of terminated threads, leases of live threads held longer than lease timeout are reported
+     */
+    private static void reclaimLeases() {
+        long leaseTimeout = TimeUnit.SECONDS.toMillis(PropertyResolver.getRemoteConfigLeaseTimeout());
+        long now = System.currentTimeMillis();
+        leases.forEach((thread, lease) -> {
+            if (!thread.isAlive()) {
+                releaseLease(thread, lease, "reclaimed from terminated thread " + thread.getName());
+            } else if (leaseTimeout > 0 && now - lease.since() > leaseTimeout && overdueLeases.add(lease)) {
+                warn("Driver Config " + lease.config().getDeviceName() + " is held by thread " + thread.getName()
+                     + " longer than lease timeout, it is returned when the thread releases or terminates.");
+            }
+        });
+    }
+
+    private static void releaseLease(Thread thread, Lease lease, String reason) {
+        //only one of concurrent releases of same lease returns the config
+        if (leases.remove(thread, lease)) {
+            overdueLeases.remove(lease);
+            metrics.released(System.currentTimeMillis() - lease.since());
+            if (!reason.equals("released")) {
+                warn("Driver Config " + lease.config().getDeviceName() + " " + reason + ".");
+            }
+            release(lease.config());
         }
     }
 
-    private static void waitOnEmpty() throws InterruptedException {
-        synchronized (CONSUMABLE) {
-            info("No Config is idle, please wait!");
-            CONSUMABLE.wait();
+    private static void release(JSONDriverConfig config) {
+        config.setIdle(true);
+        idleConfigs.addLast(config);
+        permits.release();
+    }
+
+    /**
+     * lease of config by one thread
+     */
+    private record Lease(JSONDriverConfig config, long since) {
+    }
+
+    /**
+     * wait time and busy time of configs
+     */
+    private static final class Metrics {
+        private long start = System.currentTimeMillis();
+        private long leaseCount = 0;
+        private long totalWait = 0;
+        private long maxWait = 0;
+        private long busyTime = 0;
+        private int waiting = 0;
+
+        private synchronized void reset() {
+            start = System.currentTimeMillis();
+            leaseCount = 0;
+            totalWait = 0;
+            maxWait = 0;
+            busyTime = 0;
+        }
+
+        private synchronized void waiting(int delta) {
+            waiting += delta;
+        }
+
+        private synchronized void leased(long waitMillis) {
+            leaseCount++;
+            totalWait += waitMillis;
+            maxWait = Math.max(maxWait, waitMillis);
+        }
+
+        private synchronized void released(long busyMillis) {
+            busyTime += busyMillis;
+        }
+
+        private synchronized String summary(int configs, int leased) {
+            long elapsed = Math.max(1, System.currentTimeMillis() - start);
+            double utilization = configs == 0 ? 0 : (double) busyTime / (elapsed * configs);
+            return String.format("Driver Configs: %d, leased: %d, waiting: %d, leases: %d, avg wait: %d ms, max wait: %d ms, utilization: %.1f%%",
+                    configs, leased, waiting, leaseCount, leaseCount == 0 ? 0 : totalWait / leaseCount, maxWait, utilization * 100);
         }
     }
 }
@@ -27,7 +27,7 @@ public class PlaywrightDriverProvider implements DriverProvider {
             info("Init Playwright driver for: " + tid);
             initialize();
         } else {
-            info("Get Playwright driver for: " + tid);
+            info("Get Playwright driver for: {}", tid);
         }
         return drivers.get();
     }
@@ -48,7 +48,7 @@ public class PlaywrightWebElement {
             if (PropertyResolver.isDemoModeEnabled()) {
                 flash(locator);
             }
-            SystemLogger.debug("Locator: " + locator + " found: " + locator.count());
+            SystemLogger.debug(() -> "Locator: " + locator + " found: " + locator.count());
             return locator;
         } else {
             throw new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE,
@@ -43,7 +43,7 @@ public class RemoteWebDriverProvider implements DriverProvider {
             info("Init remote driver for: " + tid);
             initialize();
         } else {
-            info("Get remote driver for: " + tid);
+            info("Get remote driver for: {}", tid);
         }
         return drivers.get(tid);
     }
@@ -70,7 +70,7 @@ public class RemoteWebDriverProvider implements DriverProvider {
             info("Initialize Remote Web Driver with Config: " + config.getDeviceName());
             if (config.getHubURL() != null && !config.getHubURL().isEmpty()) {
                 DesiredCapabilities capabilities = new DesiredCapabilities(config.getCapabilities());
-                capabilities.asMap().forEach((key, value) -> info("Capability: " + key + " -> " + value));
+                capabilities.asMap().forEach((key, value) -> info("Capability: {} -> {}", key, value));
                 RemoteWebDriver driver = null;
                 try {
                     driver = new RemoteWebDriver(new URL(capabilities.getCapability("hubURL").toString()), capabilities);
@@ -30,7 +30,7 @@ public abstract class WebDriverProvider implements DriverProvider {
             info("Init web driver for: " + tid);
             initialize();
         } else {
-            info("Get web driver for: " + tid);
+            info("Get web driver for: {}", tid);
         }
         return drivers.get();
     }
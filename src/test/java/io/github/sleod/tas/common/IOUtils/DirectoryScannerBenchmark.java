@@ -0,0 +1,67 @@
+package io.github.sleod.tas.common.IOUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark of directory scan on synthetic tree, sequential and parallel.
+ * <p>
+ * Run with main, arguments: number of directories (default 1000) and files per directory (default 100).
+ * Every tenth directory is named "excluded" below, so that pruning is measured as well.
+ */
+public class DirectoryScannerBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int directories = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int filesPerDirectory = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Path root = Files.createTempDirectory("tas-scan-benchmark");
+        try {
+            createTree(root, directories, filesPerDirectory);
+            System.out.println("Tree: " + directories * filesPerDirectory + " files in " + directories + " directories");
+            List<String> includes = List.of("*.tas");
+            List<String> excludes = List.of("*/excluded/*");
+            List<File> sequential = DirectoryScanner.scan(root.toFile(), includes, excludes);
+            List<File> parallel = DirectoryScanner.scan(root.toFile(), includes, excludes, true);
+            if (!sequential.equals(parallel)) {
+                throw new IllegalStateException("Sequential and parallel scan differ!");
+            }
+            System.out.println("Matched files: " + sequential.size());
+            System.out.println("Sequential median: " + measure(() -> DirectoryScanner.scan(root.toFile(), includes, excludes)) + " ms");
+            System.out.println("Parallel median:   " + measure(() -> DirectoryScanner.scan(root.toFile(), includes, excludes, true)) + " ms");
+        } finally {
+            FileOperation.deleteFolder(root.toFile());
+        }
+    }
+
+    private static void createTree(Path root, int directories, int filesPerDirectory) throws IOException {
+        for (int dir = 0; dir < directories; dir++) {
+            Path folder = root.resolve("group" + dir % 10).resolve(dir % 10 == 0 ? "excluded" : "cases").resolve("dir" + dir);
+            Files.createDirectories(folder);
+            for (int file = 0; file < filesPerDirectory; file++) {
+                Files.createFile(folder.resolve("case" + file + (file % 2 == 0 ? ".tas" : ".json")));
+            }
+        }
+    }
+
+    private static long measure(Runnable scan) {
+        for (int round = 0; round < WARMUP; round++) {
+            scan.run();
+        }
+        List<Long> times = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            scan.run();
+            times.add((System.nanoTime() - start) / 1_000_000);
+        }
+        Collections.sort(times);
+        return times.get(ROUNDS / 2);
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.sleod.tas.common.IOUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectoryScannerTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void parallelScanEqualsSequentialScanWithLinks() throws IOException {
+        createFile("cases/a.tas");
+        createFile("cases/b.tas");
+        createFile("cases/sub/c.tas");
+        createFile("cases/notes.txt");
+        createFile("excluded/d.tas");
+        //linked sibling is followed, link back to ancestor is skipped
+        Files.createSymbolicLink(root.resolve("linked"), root.resolve("cases/sub"));
+        Files.createSymbolicLink(root.resolve("cases/sub/loop"), root.resolve("cases"));
+
+        List<File> sequential = DirectoryScanner.scan(root.toFile(), List.of("*.tas"), List.of("*/excluded/*"));
+        List<File> parallel = DirectoryScanner.scan(root.toFile(), List.of("*.tas"), List.of("*/excluded/*"), true);
+
+        assertEquals(sequential, parallel);
+        assertTrue(sequential.contains(new File("/cases/a.tas")));
+        assertTrue(sequential.contains(new File("/cases/sub/c.tas")));
+        assertTrue(sequential.contains(new File("/linked/c.tas")));
+        assertFalse(sequential.contains(new File("/excluded/d.tas")));
+        assertFalse(sequential.contains(new File("/cases/notes.txt")));
+    }
+
+    @Test
+    void missingDirectoryIsEmptyInBothModes() {
+        File missing = root.resolve("missing").toFile();
+        assertTrue(DirectoryScanner.scan(missing, List.of("*"), List.of()).isEmpty());
+        assertTrue(DirectoryScanner.scan(missing, List.of("*"), List.of(), true).isEmpty());
+    }
+
+    private void createFile(String relPath) throws IOException {
+        Path file = root.resolve(relPath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, relPath);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.sleod.tas.common.logging;
+
+import io.github.sleod.tas.core.component.TestStepResult;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Benchmark of logging with disabled debug level and of step logs written by parallel threads.
+ * <p>
+ * Run with main, arguments: number of messages (default 1000000) and number of threads (default 8). Debug is disabled
+ * by default TAS log level INFO, so only building of messages is measured. Step logs of TestStepResult, a synchronized
+ * StringBuilder, are compared with a lock-free queue of lines.
+ */
+public class SystemLoggerBenchmark {
+
+    private static final int WARMUP = 3;
+    private static final int ROUNDS = 10;
+    private static volatile Object sink;
+
+    public static void main(String[] args) throws Exception {
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        Object value = List.of("driver", "config", 42);
+        System.out.println("Disabled debug, " + messages + " messages");
+        System.out.println("Concatenated median:  " + measure(() -> {
+            for (int i = 0; i < messages; i++) {
+                SystemLogger.debug("Get driver " + i + " with " + value);
+            }
+        }) + " ms");
+        System.out.println("Parameterized median: " + measure(() -> {
+            for (int i = 0; i < messages; i++) {
+                SystemLogger.debug("Get driver {} with {}", i, value);
+            }
+        }) + " ms");
+        System.out.println("Supplier median:      " + measure(() -> {
+            for (int i = 0; i < messages; i++) {
+                int index = i;
+                SystemLogger.debug(() -> "Get driver " + index + " with " + value);
+            }
+        }) + " ms");
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            int linesPerThread = messages / threads;
+            System.out.println("Step logs, " + threads + " threads, " + linesPerThread + " lines each");
+            System.out.println("Lock-free queue median: " + measure(() -> {
+                Queue<String> logs = new ConcurrentLinkedQueue<>();
+                runParallel(executor, threads, () -> {
+                    for (int i = 0; i < linesPerThread; i++) {
+                        logs.add("step line " + i);
+                    }
+                });
+                StringBuilder stepLogs = new StringBuilder();
+                logs.forEach(line -> stepLogs.append(line).append(System.lineSeparator()));
+                sink = stepLogs.toString();
+            }) + " ms");
+            System.out.println("TestStepResult median:  " + measure(() -> {
+                TestStepResult stepResult = new TestStepResult("benchmark", 1);
+                runParallel(executor, threads, () -> {
+                    for (int i = 0; i < linesPerThread; i++) {
+                        stepResult.logInfo("step line " + i);
+                    }
+                });
+                sink = stepResult.getStepLogs();
+            }) + " ms");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void runParallel(ExecutorService executor, int threads, Runnable task) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            futures.add(executor.submit(task));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static long measure(Runnable task) {
+        for (int round = 0; round < WARMUP; round++) {
+            task.run();
+        }
+        List<Long> times = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            task.run();
+            times.add((System.nanoTime() - start) / 1_000_000);
+        }
+        Collections.sort(times);
+        return times.get(ROUNDS / 2);
+    }
+}
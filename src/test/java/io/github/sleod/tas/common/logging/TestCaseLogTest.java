@@ -0,0 +1,116 @@
+package io.github.sleod.tas.common.logging;
+
+import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.core.component.TestFailure;
+import io.github.sleod.tas.core.component.TestStepResult;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCaseLogTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void existingLogIsTruncated() throws IOException {
+        Path path = Files.writeString(dir.resolve("report.log"), "log of previous run" + NL);
+
+        TestCaseLog log = new TestCaseLog(path);
+        log.append("begin");
+        log.close();
+
+        assertEquals("begin" + NL, Files.readString(path));
+    }
+
+    @Test
+    void rangesOfStepsAreReadFromLog() {
+        TestCaseLog log = new TestCaseLog(dir.resolve("report.log"));
+        log.append("begin");
+        TestStepResult first = new TestStepResult("first", 1);
+        first.beginLog(log);
+        first.logInfo("first line");
+        first.logInfo("second line");
+        first.setStatus(TestStatus.PASS);
+        first.endLog();
+        TestStepResult second = new TestStepResult("second", 2);
+        second.beginLog(log);
+        second.logInfo("failing line");
+        second.setStatus(TestStatus.FAIL);
+        second.setTestFailure(new TestFailure(new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "broken")));
+        second.endLog();
+        log.append("end");
+
+        assertEquals("first line" + NL + "second line" + NL, first.getStepLogs());
+        //failure is written after step logs and is not part of them
+        assertTrue(second.getStepLogs().startsWith("failing line" + NL));
+        assertTrue(second.getFailureStart() > second.getLogStart());
+        assertTrue(log.read(second.getFailureStart(), second.getLogEnd()).contains("broken"));
+        assertEquals("end" + NL, log.read(second.getLogEnd(), log.position()));
+        assertTrue(first.hasLogRange());
+    }
+
+    @Test
+    void lineAfterEndOfStepIsKeptInMemory() {
+        TestCaseLog log = new TestCaseLog(dir.resolve("report.log"));
+        TestStepResult step = new TestStepResult("step", 1);
+        step.beginLog(log);
+        step.logInfo("in range");
+        step.setStatus(TestStatus.PASS);
+        step.endLog();
+        step.logInfo("late line of watchdog");
+        log.append("next step");
+
+        assertEquals("in range" + NL + "late line of watchdog" + NL, step.getStepLogs());
+        assertEquals("late line of watchdog" + NL, step.getMemoryLogs());
+    }
+
+    @Test
+    void closedLogDropsLinesAndIsReadable() {
+        Path path = dir.resolve("report.log");
+        TestCaseLog log = new TestCaseLog(path);
+        log.append("begin");
+        long end = log.position();
+        log.close();
+        log.close();
+        log.append("dropped");
+
+        assertEquals(end, log.position());
+        assertEquals("begin" + NL, TestCaseLog.readOnly(path).read(0, end));
+        assertEquals("", TestCaseLog.readOnly(path).read(end, end));
+    }
+
+    @Test
+    void linesOfParallelThreadsAreNotMixed() throws Exception {
+        Path path = dir.resolve("report.log");
+        TestCaseLog log = new TestCaseLog(path);
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            String line = String.valueOf((char) ('a' + thread)).repeat(200);
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    log.append(line);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        log.close();
+
+        List<String> lines = Files.readAllLines(path);
+        assertEquals(2000, lines.size());
+        lines.forEach(line -> assertTrue(line.matches("([a-d])\\1{199}"), line));
+    }
+}
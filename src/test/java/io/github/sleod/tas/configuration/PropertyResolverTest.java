@@ -0,0 +1,39 @@
+package io.github.sleod.tas.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static io.github.sleod.tas.common.enumerations.PropertyKey.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PropertyResolverTest {
+
+    @AfterEach
+    void reset() {
+        PropertyResolver.setCurrentProperties(null);
+    }
+
+    @Test
+    void effectivePropertyFallsBackToDefaultOfSnapshot() {
+        PropertyResolver.setCurrentProperties(new Properties());
+
+        assertEquals("true", PropertyResolver.getEffectiveProperty(RUN_STOP_ON_ERROR));
+        assertEquals("png", PropertyResolver.getEffectiveProperty(SCREENSHOT_FORMAT));
+        assertEquals("INFO", PropertyResolver.getEffectiveProperty(LOG_LEVEL_TAS));
+        //default is not written into properties
+        assertNull(PropertyResolver.getProperty(RUN_STOP_ON_ERROR.key()));
+    }
+
+    @Test
+    void effectivePropertyReturnsSetValue() {
+        PropertyResolver.setCurrentProperties(new Properties());
+        PropertyResolver.setProperty(RUN_STOP_ON_ERROR.key(), "false");
+        PropertyResolver.setProperty(SCREENSHOT_FORMAT.key(), "jpg");
+
+        assertEquals("false", PropertyResolver.getEffectiveProperty(RUN_STOP_ON_ERROR));
+        assertEquals("jpg", PropertyResolver.getEffectiveProperty(SCREENSHOT_FORMAT));
+        assertFalse(PropertyResolver.getSnapshot().stopOnError());
+    }
+}
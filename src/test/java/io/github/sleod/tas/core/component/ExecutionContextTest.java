@@ -0,0 +1,46 @@
+package io.github.sleod.tas.core.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionContextTest {
+
+    @AfterEach
+    void cleanUp() {
+        ExecutionContext.unbind();
+        TestDataContainer.clearTempData();
+    }
+
+    @Test
+    void unboundThreadsShareContext() throws InterruptedException {
+        TestDataContainer.setTempData("key", "value");
+        AtomicReference<Object> seen = new AtomicReference<>();
+        Thread thread = Thread.ofPlatform().start(() -> seen.set(TestDataContainer.getTempData("key")));
+        thread.join();
+        assertFalse(ExecutionContext.isBound());
+        assertEquals("value", seen.get());
+    }
+
+    @Test
+    void boundThreadWorksWithForkedCopy() throws InterruptedException {
+        TestDataContainer.setTempData("key", "value");
+        ExecutionContext shared = ExecutionContext.current();
+        AtomicReference<Object> seen = new AtomicReference<>();
+        AtomicReference<Object> afterUnbind = new AtomicReference<>();
+        Thread thread = Thread.ofPlatform().start(() -> {
+            ExecutionContext.bind(shared.fork());
+            TestDataContainer.setTempData("key", "changed");
+            seen.set(TestDataContainer.getTempData("key"));
+            ExecutionContext.unbind();
+            afterUnbind.set(TestDataContainer.getTempData("key"));
+        });
+        thread.join();
+        assertEquals("changed", seen.get());
+        assertEquals("value", afterUnbind.get());
+        assertEquals("value", TestDataContainer.getTempData("key"));
+    }
+}
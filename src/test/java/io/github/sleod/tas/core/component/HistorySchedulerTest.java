@@ -0,0 +1,146 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestType;
+import io.github.sleod.tas.core.report.ReportBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistorySchedulerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void historyIdOfSeriesTestCaseIsIdOfMarkedNameInReport() {
+        TestCaseObject testCaseObject = testCase("login", "2");
+
+        assertEquals(ReportBuilder.buildHistoryId("testCases/web", "login - SN - 2"), HistoryScheduler.historyId(testCaseObject));
+    }
+
+    @Test
+    void historyIdDoesNotMarkSeriesTwice() {
+        TestCaseObject testCaseObject = testCase("login - SN - 2", "2");
+
+        assertEquals(ReportBuilder.buildHistoryId("testCases/web", "login - SN - 2"), HistoryScheduler.historyId(testCaseObject));
+    }
+
+    @Test
+    void historyIdOfSingleTestCaseIsIdOfName() {
+        TestCaseObject testCaseObject = testCase("login", null);
+
+        assertEquals(ReportBuilder.buildHistoryId("testCases/web", "login"), HistoryScheduler.historyId(testCaseObject));
+    }
+
+    @Test
+    void testCasesAreScheduledLongestFirst() throws IOException {
+        TestCaseObject shortCase = TestCaseFixture.testCase("short", null);
+        TestCaseObject longCase = TestCaseFixture.testCase("long", null);
+        TestCaseObject middleCase = TestCaseFixture.testCase("middle", null);
+        Path history = writeHistory(entry("testCases/rest", "short", "passed", 1000),
+                entry("testCases/rest", "long", "passed", 3000), entry("testCases/rest", "middle", "passed", 2000));
+
+        HistoryScheduler.Schedule schedule = HistoryScheduler.schedule(List.of(shortCase, longCase, middleCase), 2, false, history);
+
+        assertEquals(List.of(longCase, middleCase, shortCase), schedule.testCaseObjects());
+        assertEquals(3000, schedule.makespan());
+    }
+
+    @Test
+    void recentlyFailedTestCasesAreScheduledFirst() throws IOException {
+        TestCaseObject failedCase = TestCaseFixture.testCase("failed", null);
+        TestCaseObject brokenCase = TestCaseFixture.testCase("broken", null);
+        TestCaseObject longCase = TestCaseFixture.testCase("long", null);
+        Path history = writeHistory(entry("testCases/rest", "failed", "failed", 1000),
+                entry("testCases/rest", "broken", "broken", 2000), entry("testCases/rest", "long", "passed", 3000));
+
+        List<TestCaseObject> ordered = HistoryScheduler.schedule(List.of(failedCase, brokenCase, longCase), 1, true, history).testCaseObjects();
+
+        assertEquals(List.of(brokenCase, failedCase, longCase), ordered);
+        assertEquals(List.of(longCase, brokenCase, failedCase),
+                HistoryScheduler.schedule(List.of(failedCase, brokenCase, longCase), 1, false, history).testCaseObjects());
+    }
+
+    @Test
+    void testCaseWithoutHistoryIsPredictedWithAverageDuration() throws IOException {
+        TestCaseObject known = TestCaseFixture.testCase("known", null);
+        TestCaseObject other = TestCaseFixture.testCase("other", null);
+        TestCaseObject unknown = TestCaseFixture.testCase("unknown", null);
+        Path history = writeHistory("{" + entry("testCases/rest", "known", 1000, 3000) + ","
+                                    + entry("testCases/rest", "other", "passed", 4000) + "}");
+
+        Map<TestCaseObject, Long> durations = HistoryScheduler.predictDurations(List.of(known, other, unknown), history);
+
+        //average of items of test case, average of test cases for unknown test case
+        assertEquals(2000, durations.get(known));
+        assertEquals(4000, durations.get(other));
+        assertEquals(3000, durations.get(unknown));
+    }
+
+    @Test
+    void webTestCaseMatchesHistoryOfRemoteDriver() throws IOException {
+        TestCaseObject web = testCase("login", null);
+        TestCaseObject rest = TestCaseFixture.testCase("login", null, "testCases/web", TestType.REST);
+        Path history = writeHistory(entry("testCases/web", "login (windows-120-chrome)", "passed", 5000),
+                entry("testCases/web", "search", "passed", 1000));
+
+        Map<TestCaseObject, Long> durations = HistoryScheduler.predictDurations(List.of(web, rest), history);
+
+        assertEquals(5000, durations.get(web));
+        //only web test cases run on remote driver, rest test case gets average duration
+        assertEquals(3000, durations.get(rest));
+    }
+
+    @Test
+    void testCasesAreNotReorderedWithoutHistory() {
+        List<TestCaseObject> testCaseObjects = List.of(TestCaseFixture.testCase("a", null), TestCaseFixture.testCase("b", null));
+
+        HistoryScheduler.Schedule schedule = HistoryScheduler.schedule(testCaseObjects, 2, true, dir.resolve("history.json"));
+
+        assertEquals(testCaseObjects, schedule.testCaseObjects());
+        assertEquals(-1, schedule.makespan());
+        assertTrue(HistoryScheduler.predictDurations(testCaseObjects, null).isEmpty());
+    }
+
+    @Test
+    void makespanIsMaxLoadOfWorkers() {
+        assertEquals(8, HistoryScheduler.predictMakespan(new long[]{5, 4, 3, 3}, 2));
+        assertEquals(15, HistoryScheduler.predictMakespan(new long[]{5, 4, 3, 3}, 1));
+        assertEquals(5, HistoryScheduler.predictMakespan(new long[]{5, 4, 3, 3}, 4));
+    }
+
+    private TestCaseObject testCase(String name, String seriesNumber) {
+        return TestCaseFixture.testCase(name, seriesNumber, "testCases/web", TestType.WEB_APP);
+    }
+
+    private Path writeHistory(String... entries) throws IOException {
+        return writeHistory("{" + String.join(",", entries) + "}");
+    }
+
+    private Path writeHistory(String content) throws IOException {
+        return Files.writeString(dir.resolve("history.json"), content);
+    }
+
+    private static String entry(String packageName, String name, String status, long duration) {
+        return "\"" + ReportBuilder.buildHistoryId(packageName, name) + "\":{\"items\":[" + item(status, duration) + "]}";
+    }
+
+    private static String entry(String packageName, String name, long... durations) {
+        StringBuilder items = new StringBuilder();
+        for (long duration : durations) {
+            items.append(items.isEmpty() ? "" : ",").append(item("passed", duration));
+        }
+        return "\"" + ReportBuilder.buildHistoryId(packageName, name) + "\":{\"items\":[" + items + "]}";
+    }
+
+    private static String item(String status, long duration) {
+        return "{\"status\":\"" + status + "\",\"time\":{\"duration\":" + duration + "}}";
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.sleod.tas.core.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyTestCasesTest {
+
+    @Test
+    void notRepeatedTestDataKeepsSeriesNumberOfFile() {
+        LazyTestCases.Source source = LazyTestCases.Source.classify("order.json", "Order.1", List.of());
+
+        assertEquals(LazyTestCases.Source.of("order.json", "Order.1"), source);
+    }
+
+    @Test
+    void rowsWithoutSeriesNumberAreVariantsOfSeriesOfFile() {
+        LazyTestCases.Source source = LazyTestCases.Source.classify("order.json", "Order.2", Arrays.asList(null, "", null));
+
+        assertEquals("Order.2.01", source.seriesNumber());
+        assertEquals(Set.of("Order"), source.seriesKeys());
+        assertFalse(source.hasSingles());
+    }
+
+    @Test
+    void seriesNumbersOfRowsDefineChains() {
+        LazyTestCases.Source source = LazyTestCases.Source.classify("mixed.json", null, Arrays.asList("Pay.2", null, "Order.1"));
+
+        assertEquals("Order.1", source.seriesNumber());
+        assertEquals(Set.of("Order", "Pay"), source.seriesKeys());
+        assertTrue(source.hasSingles());
+        assertEquals(Set.of("series:Order", "series:Pay", "file:mixed.json"), source.units());
+    }
+}
@@ -0,0 +1,142 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestType;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParallelTestCaseRunnerTest {
+
+    private final Queue<String> executed = new ConcurrentLinkedQueue<>();
+    private final Map<String, String> threads = new ConcurrentHashMap<>();
+    private final Map<String, ExecutionContext> contexts = new ConcurrentHashMap<>();
+
+    @Test
+    void executesAllUnitsAndChainsInOrderInOneThread() {
+        List<List<TestCaseObject>> units = List.of(
+                List.of(testCase("series 1.1", TestType.WEB_APP), testCase("series 1.2", TestType.WEB_APP), testCase("series 1.3", TestType.WEB_APP)),
+                List.of(testCase("single a", TestType.WEB_APP)),
+                List.of(testCase("single b", TestType.WEB_APP)),
+                List.of(testCase("single c", TestType.WEB_APP)));
+
+        List<DynamicContainer> containers = new ParallelTestCaseRunner(units.iterator(), 3, 0).stream().toList();
+
+        assertEquals(6, containers.size());
+        assertEquals(Set.of("series 1.1", "series 1.2", "series 1.3", "single a", "single b", "single c"), Set.copyOf(executed));
+        List<String> chain = executed.stream().filter(name -> name.startsWith("series")).toList();
+        assertEquals(List.of("series 1.1", "series 1.2", "series 1.3"), chain);
+        assertEquals(1, new HashSet<>(List.of(threads.get("series 1.1"), threads.get("series 1.2"), threads.get("series 1.3"))).size());
+        //each worker has own context, not the shared context of caller
+        contexts.values().forEach(context -> assertNotSame(ExecutionContext.current(), context));
+    }
+
+    @Test
+    void failedStepIsReportedAsFailedDynamicTest() throws Throwable {
+        TestCaseObject failing = mock(TestCaseObject.class);
+        when(failing.getName()).thenReturn("failing");
+        when(failing.getTestType()).thenReturn(TestType.REST);
+        when(failing.prepareAndGetDisplayName()).thenReturn("failing");
+        when(failing.getTestSteps()).thenAnswer(invocation -> Stream.of(DynamicTest.dynamicTest("step", () -> {
+            throw new IllegalStateException("broken");
+        })));
+
+        List<DynamicContainer> containers = new ParallelTestCaseRunner(List.of(List.of(failing)).iterator(), 1, 2).stream().toList();
+
+        assertEquals(1, containers.size());
+        DynamicNode step = containers.getFirst().getChildren().findFirst().orElseThrow();
+        assertThrows(IllegalStateException.class, () -> ((DynamicTest) step).getExecutable().execute());
+    }
+
+    @Test
+    void virtualThreadsAreNumberedInsteadOfNamedAfterTestCase() {
+        List<List<TestCaseObject>> units = List.of(List.of(testCase("rest a/b: c", TestType.REST)), List.of(testCase("rest d", TestType.REST)));
+
+        new ParallelTestCaseRunner(units.iterator(), 1, 2).stream().toList();
+
+        assertTrue(threads.get("rest a/b: c").matches("tas-virtual-\\d+"), threads.get("rest a/b: c"));
+        assertTrue(threads.get("rest d").matches("tas-virtual-\\d+"), threads.get("rest d"));
+    }
+
+    @Test
+    void unitsArePulledOnlyWhenWorkerIsFree() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TestCaseObject blocking = mock(TestCaseObject.class);
+        when(blocking.getName()).thenReturn("blocking");
+        when(blocking.getTestType()).thenReturn(TestType.WEB_APP);
+        when(blocking.prepareAndGetDisplayName()).thenReturn("blocking");
+        when(blocking.getTestSteps()).thenAnswer(invocation -> Stream.of(DynamicTest.dynamicTest("step", release::await)));
+        AtomicInteger pulled = new AtomicInteger();
+        Iterator<List<TestCaseObject>> source = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return pulled.get() < 10;
+            }
+
+            @Override
+            public List<TestCaseObject> next() {
+                int index = pulled.incrementAndGet();
+                return List.of(index == 1 ? blocking : testCase("single " + index, TestType.WEB_APP));
+            }
+        };
+        ParallelTestCaseRunner runner = new ParallelTestCaseRunner(source, 1, 0);
+        List<DynamicContainer> containers = new ArrayList<>();
+        Thread consumer = Thread.ofPlatform().start(() -> containers.addAll(runner.stream().toList()));
+
+        Thread.sleep(500);
+        //one unit in execution, one in queue and one waiting in dispatcher
+        assertEquals(3, pulled.get());
+        release.countDown();
+        consumer.join(10_000);
+        assertEquals(10, pulled.get());
+        assertEquals(10, containers.size());
+    }
+
+    @Test
+    void webUnitIsDispatchedWhileVirtualThreadsAreBusy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TestCaseObject blocking = mock(TestCaseObject.class);
+        when(blocking.getName()).thenReturn("blocking");
+        when(blocking.getTestType()).thenReturn(TestType.REST);
+        when(blocking.prepareAndGetDisplayName()).thenReturn("blocking");
+        when(blocking.getTestSteps()).thenAnswer(invocation -> Stream.of(DynamicTest.dynamicTest("step", release::await)));
+        List<List<TestCaseObject>> units = List.of(List.of(blocking), List.of(testCase("rest a", TestType.REST)),
+                List.of(testCase("rest b", TestType.REST)), List.of(testCase("web", TestType.WEB_APP)));
+        ParallelTestCaseRunner runner = new ParallelTestCaseRunner(units.iterator(), 1, 1);
+        List<DynamicContainer> containers = new ArrayList<>();
+        Thread consumer = Thread.ofPlatform().start(() -> containers.addAll(runner.stream().toList()));
+
+        for (int i = 0; i < 50 && !executed.contains("web"); i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(List.of("web"), List.copyOf(executed));
+        release.countDown();
+        consumer.join(10_000);
+        assertEquals(4, containers.size());
+        assertEquals(Set.of("web", "rest a", "rest b"), Set.copyOf(executed));
+    }
+
+    private TestCaseObject testCase(String name, TestType testType) {
+        TestCaseObject testCaseObject = mock(TestCaseObject.class);
+        when(testCaseObject.getName()).thenReturn(name);
+        when(testCaseObject.getTestType()).thenReturn(testType);
+        when(testCaseObject.prepareAndGetDisplayName()).thenReturn(name);
+        when(testCaseObject.getTestSteps()).thenAnswer(invocation -> Stream.of(DynamicTest.dynamicTest("step of " + name, () -> {
+            threads.put(name, Thread.currentThread().getName());
+            contexts.put(name, ExecutionContext.current());
+            executed.add(name);
+        })));
+        return testCaseObject;
+    }
+}
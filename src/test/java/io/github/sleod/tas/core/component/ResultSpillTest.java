@@ -0,0 +1,113 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestStatus;
+import io.github.sleod.tas.common.logging.TestCaseLog;
+import io.github.sleod.tas.exception.ExceptionBase;
+import io.github.sleod.tas.exception.ExceptionErrorKeys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultSpillTest {
+
+    private static final String NL = System.lineSeparator();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resultsAreRehydratedAfterSpill() {
+        TestRunResult testRunResult = testRunResult();
+        List<TestStepResult> before = testRunResult.getStepResults();
+        String firstLogs = before.get(0).getStepLogs();
+        String secondLogs = before.get(1).getStepLogs();
+        String secondFailure = before.get(1).getTestFailure().getMessage();
+
+        testRunResult.spill();
+
+        assertNotNull(testRunResult.getSummaryFilePath());
+        assertTrue(Files.exists(Path.of(testRunResult.getSummaryFilePath())));
+        List<TestStepResult> after = testRunResult.getStepResults();
+        assertEquals(2, after.size());
+        assertEquals("first", after.get(0).getName());
+        assertEquals(TestStatus.PASS, after.get(0).getStatus());
+        assertEquals(firstLogs, after.get(0).getStepLogs());
+        assertEquals("second", after.get(1).getName());
+        assertEquals(TestStatus.FAIL, after.get(1).getStatus());
+        assertEquals(secondLogs, after.get(1).getStepLogs());
+        assertEquals(secondFailure, after.get(1).getTestFailure().getMessage());
+        assertEquals(List.of(new File("screen.png")), testRunResult.getAttachments());
+    }
+
+    @Test
+    void rehydratedResultsAreReusedWhileInUse() {
+        TestRunResult testRunResult = testRunResult();
+        testRunResult.spill();
+
+        //results in use are strongly reachable, so the soft cache is not cleared
+        List<TestStepResult> first = testRunResult.getStepResults();
+        assertSame(first, testRunResult.getStepResults());
+        assertSame(first.get(0), testRunResult.getStepResults().get(0));
+        assertSame(testRunResult.getAttachments(), testRunResult.getAttachments());
+    }
+
+    @Test
+    void failureOfBrokenRunIsKept() {
+        TestRunResult testRunResult = testRunResult();
+        testRunResult.setStatus(TestStatus.BROKEN);
+        testRunResult.setTestFailure(new TestFailure(new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "driver lost")));
+        String message = testRunResult.getTestFailure().getMessage();
+
+        testRunResult.spill();
+
+        assertEquals(TestStatus.BROKEN, testRunResult.getStatus());
+        assertNotNull(testRunResult.getTestFailure());
+        assertEquals(message, testRunResult.getTestFailure().getMessage());
+    }
+
+    @Test
+    void passedRunHasNoFailureAfterSpill() {
+        TestRunResult testRunResult = new TestRunResult();
+        testRunResult.setLogFilePath(dir.resolve("passed.log").toString());
+        TestStepResult step = new TestStepResult("only", 1);
+        step.logInfo("in memory");
+        step.setStatus(TestStatus.PASS);
+        testRunResult.addStepResults(step);
+
+        testRunResult.spill();
+
+        assertNull(testRunResult.getTestFailure());
+        assertEquals("in memory" + NL, testRunResult.getStepResults().get(0).getStepLogs());
+    }
+
+    private TestRunResult testRunResult() {
+        Path path = dir.resolve("report.log");
+        TestCaseLog log = new TestCaseLog(path);
+        TestRunResult testRunResult = new TestRunResult();
+        testRunResult.setName("spilled");
+        testRunResult.setLogFilePath(path.toString());
+        testRunResult.setTestCaseLog(log);
+        TestStepResult first = new TestStepResult("first", 1);
+        first.beginLog(log);
+        first.logInfo("first line");
+        first.setStatus(TestStatus.PASS);
+        first.setFullScreen(new File("screen.png"));
+        first.endLog();
+        testRunResult.addStepResults(first);
+        TestStepResult second = new TestStepResult("second", 2);
+        second.beginLog(log);
+        second.logInfo("failing line");
+        second.setStatus(TestStatus.FAIL);
+        second.setTestFailure(new TestFailure(new ExceptionBase(ExceptionErrorKeys.CUSTOM_MESSAGE, "assertion")));
+        second.endLog();
+        testRunResult.addStepResults(second);
+        log.close();
+        return testRunResult;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.sleod.tas.core.component;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StepWatchdogTest {
+
+    private final ExecutionContext context = new ExecutionContext();
+    private final TestStepResult stepResult = new TestStepResult("stalled step", 1);
+    private final TestCaseStep step = mock(TestCaseStep.class);
+
+    @BeforeEach
+    void bindContext() {
+        ExecutionContext.bind(context);
+        when(step.getName()).thenReturn("stalled step");
+        when(step.getTestStepResult()).thenReturn(stepResult);
+    }
+
+    @AfterEach
+    void unbindContext() {
+        ExecutionContext.unbind();
+    }
+
+    @Test
+    void overrunInterruptsStepAndWritesThreadDump() {
+        long start = System.currentTimeMillis();
+        StepWatchdog.Watch watch = StepWatchdog.watchStep(step, 1);
+
+        assertThrows(InterruptedException.class, () -> Thread.sleep(30_000));
+        watch.close();
+
+        assertTrue(System.currentTimeMillis() - start < 10_000);
+        assertTrue(watch.isOverrun());
+        assertFalse(watch.isDriverClosed());
+        assertFalse(Thread.currentThread().isInterrupted());
+        //stack of watched thread is taken before interrupt
+        assertTrue(stepResult.getStepLogs().contains("Stalled thread: " + Thread.currentThread().getName()));
+        assertTrue(stepResult.getStepLogs().contains("Thread.sleep"));
+    }
+
+    @Test
+    void stepWithinBudgetIsNotInterrupted() throws InterruptedException {
+        StepWatchdog.Watch watch = StepWatchdog.watchStep(step, 5);
+
+        Thread.sleep(100);
+        watch.close();
+
+        assertFalse(watch.isOverrun());
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertTrue(stepResult.getStepLogs().isEmpty());
+    }
+
+    @Test
+    void stepWithoutBudgetIsNotWatched() {
+        StepWatchdog.Watch watch = StepWatchdog.watchStep(step, 0);
+        watch.close();
+
+        assertFalse(watch.isOverrun());
+        assertEquals(0, watch.getTimeoutSeconds());
+    }
+
+    @Test
+    void overrunOfTestCaseStopsRemainingSteps() {
+        context.setCurrentStep(step);
+        StepWatchdog.Watch watch = StepWatchdog.watchTestCase("long test case", 1);
+
+        assertThrows(InterruptedException.class, () -> Thread.sleep(30_000));
+        watch.close();
+
+        assertTrue(watch.isOverrun());
+        assertTrue(context.isStop());
+        assertTrue(stepResult.getStepLogs().contains("Stalled thread: "));
+    }
+}
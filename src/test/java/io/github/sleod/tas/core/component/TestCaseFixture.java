@@ -0,0 +1,54 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.TestType;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Mocked test case objects shared by tests of scheduling, sharding and work queue.
+ */
+final class TestCaseFixture {
+
+    private TestCaseFixture() {
+    }
+
+    /**
+     * @param name         name of test case
+     * @param seriesNumber series number, null for single test case
+     * @return mocked rest test case in package testCases/rest
+     */
+    static TestCaseObject testCase(String name, String seriesNumber) {
+        return testCase(name, seriesNumber, "testCases/rest", TestType.REST);
+    }
+
+    /**
+     * @param name         name of test case
+     * @param seriesNumber series number, null for single test case
+     * @param packageName  package name of test case
+     * @param testType     type of test case
+     * @return mocked test case
+     */
+    static TestCaseObject testCase(String name, String seriesNumber, String packageName, TestType testType) {
+        TestCaseObject testCaseObject = mock(TestCaseObject.class);
+        when(testCaseObject.getName()).thenReturn(name);
+        when(testCaseObject.getSeriesNumber()).thenReturn(seriesNumber);
+        when(testCaseObject.getPackageName()).thenReturn(packageName);
+        when(testCaseObject.getTestType()).thenReturn(testType);
+        return testCaseObject;
+    }
+
+    /**
+     * @param testCaseObjects test cases
+     * @return names of test cases
+     */
+    static Set<String> names(List<TestCaseObject> testCaseObjects) {
+        Set<String> names = new HashSet<>();
+        testCaseObjects.forEach(testCaseObject -> names.add(testCaseObject.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.PropertyKey;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static io.github.sleod.tas.core.component.TestCaseFixture.names;
+import static io.github.sleod.tas.core.component.TestCaseFixture.testCase;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestShardingTest {
+
+    @AfterEach
+    void resetProperties() {
+        PropertyResolver.setCurrentProperties(null);
+    }
+
+    @Test
+    void everyTestCaseIsInExactlyOneShardAndChainsStayTogether() {
+        List<TestCaseObject> testCaseObjects = testCases();
+        List<Set<String>> shards = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            shards.add(names(shard(testCaseObjects, index, 3)));
+        }
+
+        Set<String> all = new HashSet<>();
+        shards.forEach(shard -> shard.forEach(name -> assertTrue(all.add(name), "in more than one shard: " + name)));
+        assertEquals(names(testCaseObjects), all);
+        shards.forEach(shard -> assertFalse(shard.isEmpty()));
+        assertTrue(shards.stream().anyMatch(shard -> shard.containsAll(Set.of("series 1.1", "series 1.2", "series 1.3"))));
+        assertTrue(shards.stream().anyMatch(shard -> shard.containsAll(Set.of("series 2.1", "series 2.2"))));
+    }
+
+    @Test
+    void assignmentDoesNotDependOnOrderOfTestCases() {
+        List<TestCaseObject> testCaseObjects = testCases();
+        List<TestCaseObject> shuffled = new ArrayList<>(testCaseObjects);
+        Collections.shuffle(shuffled, new Random(7));
+
+        for (int index = 0; index < 3; index++) {
+            assertEquals(names(shard(testCaseObjects, index, 3)), names(shard(shuffled, index, 3)));
+        }
+    }
+
+    @Test
+    void unitsAreWeightedWithSharedHistory(@TempDir Path dir) throws IOException {
+        List<TestCaseObject> testCaseObjects = testCases();
+        StringJoiner history = new StringJoiner(",", "{", "}");
+        for (TestCaseObject testCaseObject : testCaseObjects) {
+            long duration = testCaseObject.getName().equals("single 5") ? 1_000_000 : 10;
+            history.add("\"" + HistoryScheduler.historyId(testCaseObject) + "\":{\"items\":[{\"status\":\"passed\",\"time\":{\"duration\":"
+                        + duration + "}}]}");
+        }
+        Path historyFile = Files.writeString(dir.resolve("history.json"), history.toString());
+
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_SHARD_HISTORY.key(), historyFile.toString());
+        Set<String> first = names(shard(testCaseObjects, 0, 2));
+        Set<String> second = names(shard(testCaseObjects, 1, 2));
+
+        //longest unit is alone in its shard
+        assertEquals(Set.of("single 5"), first.contains("single 5") ? first : second);
+        assertEquals(testCaseObjects.size(), first.size() + second.size());
+    }
+
+    @Test
+    void lazyUnitsAreInExactlyOneShard() {
+        List<LazyTestCases.Source> sources = List.of(LazyTestCases.Source.of("a.json", null), LazyTestCases.Source.of("b.json", null),
+                LazyTestCases.Source.of("c.json", "1.1"), LazyTestCases.Source.of("d.json", "1.2"), LazyTestCases.Source.of("e.json", "2.1"));
+        Set<String> all = new HashSet<>();
+        for (int index = 0; index < 2; index++) {
+            setShard(index, 2);
+            TestSharding.selectShardUnits(sources).forEach(unit -> assertTrue(all.add(unit), "in more than one shard: " + unit));
+        }
+
+        assertEquals(Set.of("file:a.json", "file:b.json", "series:1", "series:2"), all);
+    }
+
+    private List<TestCaseObject> shard(List<TestCaseObject> testCaseObjects, int index, int total) {
+        setShard(index, total);
+        return TestSharding.selectShard(testCaseObjects);
+    }
+
+    private void setShard(int index, int total) {
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_SHARD_INDEX.key(), String.valueOf(index));
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_SHARD_TOTAL.key(), String.valueOf(total));
+    }
+
+    private List<TestCaseObject> testCases() {
+        List<TestCaseObject> testCaseObjects = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            testCaseObjects.add(testCase("single " + i, null));
+        }
+        testCaseObjects.add(testCase("series 1.1", "1.1"));
+        testCaseObjects.add(testCase("series 1.2", "1.2"));
+        testCaseObjects.add(testCase("series 1.3", "1.3"));
+        testCaseObjects.add(testCase("series 2.1", "2.1"));
+        testCaseObjects.add(testCase("series 2.2", "2.2"));
+        return testCaseObjects;
+    }
+}
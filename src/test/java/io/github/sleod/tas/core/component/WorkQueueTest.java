@@ -0,0 +1,131 @@
+package io.github.sleod.tas.core.component;
+
+import io.github.sleod.tas.common.enumerations.PropertyKey;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.json.ObjectMapperSingleton;
+import io.github.sleod.tas.exception.ExceptionBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.sleod.tas.core.component.TestCaseFixture.names;
+import static io.github.sleod.tas.core.component.TestCaseFixture.testCase;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkQueueTest {
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void configureQueue() {
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_QUEUE_DIR.key(), dir.toString());
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_QUEUE_RUN_ID.key(), "run-1");
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_QUEUE_LEASE_TIMEOUT.key(), "3");
+    }
+
+    @AfterEach
+    void resetProperties() {
+        PropertyResolver.setCurrentProperties(null);
+    }
+
+    @Test
+    void runIdIsRequired() {
+        PropertyResolver.setCurrentProperties(null);
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_QUEUE_DIR.key(), dir.toString());
+
+        assertThrows(ExceptionBase.class, () -> new WorkQueue(testCases()));
+    }
+
+    @Test
+    void eachUnitIsExecutedOnceByOneOfTheWorkers() throws Exception {
+        Properties properties = PropertyResolver.copyCurrentProperties();
+        List<CompletableFuture<List<String>>> workers = new ArrayList<>();
+        for (String worker : List.of("worker-1", "worker-2")) {
+            workers.add(CompletableFuture.supplyAsync(() -> {
+                PropertyResolver.setCurrentProperties(properties);
+                List<String> executed = new ArrayList<>();
+                queue(worker).units().forEach(unit -> unit.forEach(testCaseObject -> executed.add(testCaseObject.getName())));
+                return executed;
+            }));
+        }
+
+        List<String> executed = new ArrayList<>();
+        for (CompletableFuture<List<String>> worker : workers) {
+            executed.addAll(worker.get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(names(testCases()), new HashSet<>(executed));
+        assertEquals(testCases().size(), executed.size());
+        //chain of series is executed in order by one worker
+        assertTrue(workers.stream().map(CompletableFuture::join).anyMatch(names -> names.containsAll(List.of("series 1.1", "series 1.2"))
+                && names.indexOf("series 1.1") < names.indexOf("series 1.2")));
+        readState().getEntries().values().forEach(entry -> assertEquals(WorkQueue.Status.DONE, entry.getStatus()));
+    }
+
+    @Test
+    void idleWorkerWaitsUntilUnitsOfOtherWorkersAreDone() throws Exception {
+        Iterator<List<TestCaseObject>> firstUnits = queue("worker-1").units().iterator();
+        //all 4 units, last one stays leased
+        for (int i = 0; i < 4; i++) {
+            firstUnits.next();
+        }
+
+        Properties properties = PropertyResolver.copyCurrentProperties();
+        CompletableFuture<List<List<TestCaseObject>>> second = CompletableFuture.supplyAsync(() -> {
+            PropertyResolver.setCurrentProperties(properties);
+            return queue("worker-2").units().toList();
+        });
+        Thread.sleep(4000);
+        //last unit of first worker is still leased and renewed by heartbeat
+        assertFalse(second.isDone());
+
+        assertFalse(firstUnits.hasNext());
+        assertTrue(second.get(10, TimeUnit.SECONDS).isEmpty());
+    }
+
+    @Test
+    void expiredLeaseOfCrashedWorkerIsTakenOver() throws Exception {
+        queue("worker-1");
+        WorkQueue.State state = readState();
+        Map.Entry<String, WorkQueue.Entry> crashed = state.getEntries().entrySet().iterator().next();
+        crashed.getValue().setStatus(WorkQueue.Status.LEASED);
+        crashed.getValue().setWorker("crashed");
+        crashed.getValue().setAttempts(1);
+        crashed.getValue().setLeasedUntil(System.currentTimeMillis() - 1);
+        ObjectMapperSingleton.prettyWriter().writeValue(dir.resolve("queue.json").toFile(), state);
+
+        List<String> executed = new ArrayList<>();
+        queue("worker-2").units().forEach(unit -> unit.forEach(testCaseObject -> executed.add(testCaseObject.getName())));
+
+        assertEquals(names(testCases()), new HashSet<>(executed));
+        WorkQueue.Entry entry = readState().getEntries().get(crashed.getKey());
+        assertEquals(WorkQueue.Status.DONE, entry.getStatus());
+        assertEquals("worker-2", entry.getWorker());
+        assertEquals(2, entry.getAttempts());
+    }
+
+    private WorkQueue queue(String worker) {
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_QUEUE_WORKER.key(), worker);
+        return new WorkQueue(testCases());
+    }
+
+    private WorkQueue.State readState() {
+        try {
+            return ObjectMapperSingleton.readValue(dir.resolve("queue.json"), WorkQueue.State.class);
+        } catch (IOException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private List<TestCaseObject> testCases() {
+        return List.of(testCase("single 1", null), testCase("single 2", null), testCase("single 3", null),
+                testCase("series 1.1", "1.1"), testCase("series 1.2", "1.2"));
+    }
+}
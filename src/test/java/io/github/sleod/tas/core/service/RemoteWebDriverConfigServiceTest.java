@@ -0,0 +1,117 @@
+package io.github.sleod.tas.core.service;
+
+import io.github.sleod.tas.common.enumerations.PropertyKey;
+import io.github.sleod.tas.configuration.PropertyResolver;
+import io.github.sleod.tas.core.json.container.JSONDriverConfig;
+import io.github.sleod.tas.exception.ExceptionBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mockStatic;
+
+class RemoteWebDriverConfigServiceTest {
+
+    private final JSONDriverConfig config = new JSONDriverConfig();
+    private MockedStatic<ConfigService> configService;
+
+    @BeforeEach
+    void loadOneConfig() {
+        configService = mockStatic(ConfigService.class);
+        configService.when(() -> ConfigService.getValidDriverConfigs(false)).thenReturn(Map.of("grid", config));
+        RemoteWebDriverConfigService.cleanUp();
+        RemoteWebDriverConfigService.loadConfigs();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        RemoteWebDriverConfigService.releaseConfig();
+        RemoteWebDriverConfigService.cleanUp();
+        configService.close();
+        PropertyResolver.setCurrentProperties(null);
+    }
+
+    @Test
+    void sameThreadGetsSameLease() {
+        assertSame(config, RemoteWebDriverConfigService.lockConfig());
+        assertSame(config, RemoteWebDriverConfigService.lockConfig());
+        assertFalse(config.isIdle());
+        assertFalse(RemoteWebDriverConfigService.isConsumable());
+    }
+
+    @Test
+    void releasedConfigIsHandedToWaitingThread() throws Exception {
+        RemoteWebDriverConfigService.lockConfig();
+        CompletableFuture<JSONDriverConfig> waiting = CompletableFuture.supplyAsync(RemoteWebDriverConfigService::lockConfig);
+        assertThrows(TimeoutException.class, () -> waiting.get(500, TimeUnit.MILLISECONDS));
+
+        RemoteWebDriverConfigService.releaseConfig();
+
+        assertSame(config, waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void configLeasedByOtherThreadIsNotUnlocked() throws Exception {
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread owner = Thread.ofPlatform().start(() -> {
+            RemoteWebDriverConfigService.lockConfig();
+            leased.countDown();
+            try {
+                done.await();
+            } catch (InterruptedException ignored) {
+                //end of test
+            }
+            RemoteWebDriverConfigService.unlockConfig(config);
+        });
+        assertTrue(leased.await(5, TimeUnit.SECONDS));
+
+        RemoteWebDriverConfigService.unlockConfig(config);
+        assertFalse(RemoteWebDriverConfigService.isConsumable());
+
+        done.countDown();
+        owner.join(5000);
+        assertTrue(RemoteWebDriverConfigService.isConsumable());
+        assertTrue(config.isIdle());
+    }
+
+    @Test
+    void leaseOfTerminatedThreadIsReclaimed() throws Exception {
+        Thread owner = Thread.ofPlatform().start(RemoteWebDriverConfigService::lockConfig);
+        owner.join(5000);
+
+        assertSame(config, RemoteWebDriverConfigService.lockConfig());
+    }
+
+    @Test
+    void leaseOfLiveThreadIsNotReclaimedAfterLeaseTimeout() throws Exception {
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_REMOTE_LEASE_TIMEOUT.key(), "1");
+        PropertyResolver.setProperty(PropertyKey.EXECUTION_REMOTE_WAIT_TIMEOUT.key(), "1");
+        CountDownLatch leased = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread owner = Thread.ofPlatform().start(() -> {
+            RemoteWebDriverConfigService.lockConfig();
+            leased.countDown();
+            try {
+                done.await();
+            } catch (InterruptedException ignored) {
+                //end of test
+            }
+            RemoteWebDriverConfigService.releaseConfig();
+        });
+        assertTrue(leased.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ExceptionBase.class, RemoteWebDriverConfigService::lockConfig);
+
+        done.countDown();
+        owner.join(5000);
+    }
+}